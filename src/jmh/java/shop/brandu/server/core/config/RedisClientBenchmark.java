@@ -0,0 +1,114 @@
+package shop.brandu.server.core.config;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.RedisClientProperties;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 클라이언트 설정 벤치마크 <br/>
+ * 기존의 기본 {@link LettuceConnectionFactory} 와 {@link RedisConfig} 설정(공유 ClientResources, 명령 타임아웃, 지연 메트릭)을
+ * 실제 Redis 컨테이너에 대해 동시 부하를 걸어 지연 분포(p99 포함)로 비교한다.
+ * 조회 패턴은 인증 필터의 로그아웃 여부 확인(HGETALL)과 인증 코드 조회(GET)다.
+ *
+ * @author : sunsuking
+ * @fileName : RedisClientBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RedisClientBenchmark {
+    private static final int USERS = 10_000;
+    private static final int SIGNED_OUT_EVERY = 100;
+
+    @Param({"bare", "configured"})
+    public String client;
+
+    private GenericContainer<?> container;
+    private ClientResources clientResources;
+    private SimpleMeterRegistry meterRegistry;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Setup
+    public void setUp() {
+        container = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+        container.start();
+
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(6379));
+        if ("bare".equals(client)) {
+            connectionFactory = new LettuceConnectionFactory(configuration);
+        } else {
+            clientResources = DefaultClientResources.create();
+            meterRegistry = new SimpleMeterRegistry();
+            connectionFactory = RedisConfig.createConnectionFactory(
+                    configuration,
+                    RedisConfig.clientConfiguration(clientResources, new RedisClientProperties(), ReadFrom.UPSTREAM),
+                    new RedisCommandMetrics(meterRegistry)
+            );
+        }
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        for (int i = 0; i < USERS; i += SIGNED_OUT_EVERY) {
+            redisTemplate.opsForHash().putAll(CacheKey.authenticationKey(username(i)), Map.of("userId", username(i), "refreshToken", "token" + i));
+            redisTemplate.opsForValue().set(CacheKey.emailConfirmCodeKey(username(i)), "123456");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (meterRegistry != null) {
+            for (Timer timer : meterRegistry.find("redis.command").timers()) {
+                System.out.printf("%n%s %s count=%d mean=%.1fus max=%.1fus",
+                        timer.getId().getTag("command"), timer.getId().getTag("key_prefix"),
+                        timer.count(), timer.mean(TimeUnit.MICROSECONDS), timer.max(TimeUnit.MICROSECONDS));
+            }
+            System.out.println();
+        }
+        connectionFactory.destroy();
+        if (clientResources != null) clientResources.shutdown();
+        container.stop();
+    }
+
+    @Benchmark
+    public Map<Object, Object> revocationLookup() {
+        return redisTemplate.opsForHash().entries(CacheKey.authenticationKey(randomUsername()));
+    }
+
+    @Benchmark
+    public String emailCodeLookup() {
+        return redisTemplate.opsForValue().get(CacheKey.emailConfirmCodeKey(randomUsername()));
+    }
+
+    private static String randomUsername() {
+        return username(ThreadLocalRandom.current().nextInt(USERS));
+    }
+
+    private static String username(int index) {
+        return "user" + index + "@brandu.shop";
+    }
+}
@@ -0,0 +1,72 @@
+package shop.brandu.server.core.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics;
+import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.RoleType;
+import shop.brandu.server.support.AuthFixtures;
+import shop.brandu.server.support.FakeRedis;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtAuthenticationFilter} 벤치마크 <br/>
+ * Redis 조회는 {@link FakeRedis} 로 대체하여 오프라인에서도 실행된다.
+ *
+ * @author : sunsuking
+ * @fileName : JwtAuthenticationFilterBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private String bearerToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenService jwtTokenService = AuthFixtures.jwtTokenService(true);
+        RedisTemplate<String, String> redisTemplate = new FakeRedis(0).template();
+        filter = new JwtAuthenticationFilter(
+                jwtTokenService, redisTemplate, AuthFixtures.redisOnlyRevocation(redisTemplate), new AuthStageMetrics(new SimpleMeterRegistry())
+        );
+
+        Credential credential = new Credential(1L, "benchmark@brandu.shop", "benchmark@brandu.shop", "password", RoleType.USER, true, false);
+        String accessToken = jwtTokenService.generateTokenByLocal(credential).getAccessToken();
+        bearerToken = "Bearer " + accessToken;
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", bearerToken);
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return filter.resolveToken(request);
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest filtered = new MockHttpServletRequest();
+        filtered.addHeader("Authorization", bearerToken);
+        filtered.setCookies(new Cookie("refreshToken", "none"));
+        FilterChain chain = new MockFilterChain();
+
+        filter.doFilter(filtered, new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
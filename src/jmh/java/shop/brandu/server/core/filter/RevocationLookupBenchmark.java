@@ -0,0 +1,71 @@
+package shop.brandu.server.core.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.core.cache.BloomFilter;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.support.FakeRedis;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 여부 확인 벤치마크 <br/>
+ * 매 요청마다 Redis 를 조회하는 기존 방식과 블룸 필터를 먼저 확인하는 방식을 비교한다.
+ *
+ * @author : sunsuking
+ * @fileName : RevocationLookupBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RevocationLookupBenchmark {
+    private static final int USERS = 10_000;
+    private static final int SIGNED_OUT_EVERY = 100;
+
+    @Param({"0", "250"})
+    public long roundTripMicros;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private BloomFilter revocationFilter;
+    private String[] usernames;
+
+    @Setup
+    public void setUp() {
+        FakeRedis redis = new FakeRedis(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        revocationFilter = BloomFilter.create(100_000, 0.01);
+        usernames = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            usernames[i] = "user" + i + "@brandu.shop";
+            if (i % SIGNED_OUT_EVERY == 0) {
+                redis.putHash(CacheKey.authenticationKey(usernames[i]), Map.of("userId", usernames[i], "refreshToken", "token" + i));
+                revocationFilter.put(usernames[i]);
+            }
+        }
+        redisTemplate = redis.template();
+    }
+
+    @Benchmark
+    public void redisOnly(Blackhole blackhole) {
+        String username = nextUsername();
+        blackhole.consume(redisTemplate.opsForHash().entries(CacheKey.authenticationKey(username)));
+    }
+
+    @Benchmark
+    public void filterThenRedis(Blackhole blackhole) {
+        String username = nextUsername();
+        if (revocationFilter.mightContain(username)) {
+            blackhole.consume(redisTemplate.opsForHash().entries(CacheKey.authenticationKey(username)));
+        }
+    }
+
+    private String nextUsername() {
+        return usernames[ThreadLocalRandom.current().nextInt(USERS)];
+    }
+}
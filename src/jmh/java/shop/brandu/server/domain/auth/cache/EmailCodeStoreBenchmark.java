@@ -0,0 +1,130 @@
+package shop.brandu.server.domain.auth.cache;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.utility.DockerImageName;
+import shop.brandu.server.core.properties.EmailCodeProperties;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 인증 코드 발급/검증 벤치마크 <br/>
+ * 실제 Redis 컨테이너를 대상으로 hasKey → set, get → delete 로 이어지는 기존 방식과 Lua 스크립트 방식을 비교한다. <br/>
+ * 같은 호스트의 컨테이너는 왕복 시간이 거의 0 이므로, Toxiproxy 로 응답 지연을 넣어 실제 네트워크 환경도 함께 측정한다.
+ *
+ * @author : sunsuking
+ * @fileName : EmailCodeStoreBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailCodeStoreBenchmark {
+    private static final String CODE = "123456";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Param({"0", "1"})
+    public int latencyMillis;
+
+    private Network network;
+    private GenericContainer<?> redis;
+    private ToxiproxyContainer toxiproxy;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private EmailCodeStore emailCodeStore;
+
+    @Setup
+    public void setUp() throws IOException {
+        network = Network.newNetwork();
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+                .withNetwork(network)
+                .withNetworkAliases("redis");
+        toxiproxy = new ToxiproxyContainer(DockerImageName.parse("ghcr.io/shopify/toxiproxy:2.5.0"))
+                .withNetwork(network);
+        redis.start();
+        toxiproxy.start();
+
+        Proxy proxy = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort())
+                .createProxy("redis", "0.0.0.0:8666", "redis:6379");
+        if (latencyMillis > 0) {
+            proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, latencyMillis);
+        }
+
+        connectionFactory = new LettuceConnectionFactory(toxiproxy.getHost(), toxiproxy.getMappedPort(8666));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        EmailCodeProperties properties = new EmailCodeProperties();
+        properties.setTtl(TTL);
+        properties.setResendCooldown(Duration.ofMillis(1));
+        emailCodeStore = new EmailCodeStore(redisTemplate, properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionFactory.destroy();
+        toxiproxy.stop();
+        redis.stop();
+        network.close();
+    }
+
+    @Benchmark
+    public void legacyIssue(Blackhole blackhole) {
+        String key = nextKey();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            redisTemplate.opsForValue().set(key, CODE, TTL);
+        }
+        blackhole.consume(key);
+    }
+
+    @Benchmark
+    public boolean scriptedIssue() {
+        return emailCodeStore.issue(nextKey(), CODE);
+    }
+
+    @Benchmark
+    public boolean legacyIssueAndVerify() {
+        String key = nextKey();
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            redisTemplate.opsForValue().set(key, CODE, TTL);
+        }
+        if (CODE.equals(redisTemplate.opsForValue().get(key))) {
+            redisTemplate.delete(key);
+            return true;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public EmailCodeStore.Verification scriptedIssueAndVerify() {
+        String key = nextKey();
+        emailCodeStore.issue(key, CODE);
+        return emailCodeStore.verify(key, CODE);
+    }
+
+    private String nextKey() {
+        return "emailConfirmCode#bench" + sequence.incrementAndGet() + "@brandu.shop";
+    }
+}
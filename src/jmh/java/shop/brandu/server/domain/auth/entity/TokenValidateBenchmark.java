@@ -0,0 +1,36 @@
+package shop.brandu.server.domain.auth.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TokenValidate#fromMap(Map)} 벤치마크 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : TokenValidateBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenValidateBenchmark {
+    private Map<Object, Object> entries;
+
+    @Setup
+    public void setUp() {
+        entries = new HashMap<>();
+        entries.put("userId", "benchmark@brandu.shop");
+        entries.put("refreshToken", "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiJiZW5jaG1hcmsifQ.signature");
+    }
+
+    @Benchmark
+    public TokenValidate fromMap() {
+        return TokenValidate.fromMap(entries);
+    }
+}
@@ -0,0 +1,106 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Outcome;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.RoleType;
+import shop.brandu.server.support.AuthFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuthStageMetrics} 계측 비용 벤치마크 <br/>
+ *
+ * <p>
+ *     registry 가 none 이면 기록하지 않는 미터를, timer 는 기본 타이머를, histogram 은 운영 설정과 같은 SLO 버킷을 사용한다.
+ *     가장 짧은 단계인 캐시된 토큰 검증에서 계측 비용이 차지하는 비율과, 같은 기록을 Observation API 로 했을 때의 비용을 비교한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : AuthStageMetricsBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthStageMetricsBenchmark {
+    // * application.properties 의 management.metrics.distribution.slo.auth.stage 와 같은 버킷 (ns)
+    private static final double[] SLO_BUCKETS = {
+            5e3, 5e4, 5e5, 1e6, 5e6, 1e7, 2.5e7, 5e7, 1e8, 2.5e8, 5e8, 1e9, 2.5e9, 5e9, 1e10
+    };
+
+    @Param({"none", "timer", "histogram"})
+    public String registry;
+
+    private AuthStageMetrics authStageMetrics;
+    private ObservationRegistry observationRegistry;
+    private JwtTokenService jwtTokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        MeterRegistry meterRegistry = meterRegistry(registry);
+        authStageMetrics = new AuthStageMetrics(meterRegistry);
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        jwtTokenService = AuthFixtures.jwtTokenService(true, authStageMetrics);
+        Credential credential = new Credential(1L, "benchmark@brandu.shop", "benchmark@brandu.shop", "password", RoleType.USER, true, false);
+        accessToken = jwtTokenService.generateTokenByLocal(credential).getAccessToken();
+        jwtTokenService.parseAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public void stop() {
+        authStageMetrics.stop(Stage.TOKEN_VERIFY, Outcome.CACHED, authStageMetrics.start());
+    }
+
+    @Benchmark
+    public Object observation() {
+        return Observation.createNotStarted("auth.stage.observation", observationRegistry)
+                .lowCardinalityKeyValue("operation", Stage.TOKEN_VERIFY.getTag())
+                .lowCardinalityKeyValue("outcome", Outcome.CACHED.getTag())
+                .observe(() -> accessToken);
+    }
+
+    @Benchmark
+    public Authentication verifyCachedToken() throws Exception {
+        return jwtTokenService.parseAuthentication(accessToken);
+    }
+
+    private static MeterRegistry meterRegistry(String registry) {
+        return switch (registry) {
+            // * 하위 레지스트리가 없는 CompositeMeterRegistry 는 기록하지 않는 미터를 반환한다.
+            case "none" -> new CompositeMeterRegistry();
+            case "timer" -> new SimpleMeterRegistry();
+            case "histogram" -> {
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                meterRegistry.config().meterFilter(new MeterFilter() {
+                    @Override
+                    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                        return DistributionStatisticConfig.builder()
+                                .serviceLevelObjectives(SLO_BUCKETS)
+                                .build()
+                                .merge(config);
+                    }
+                });
+                yield meterRegistry;
+            }
+            default -> throw new IllegalArgumentException(registry);
+        };
+    }
+}
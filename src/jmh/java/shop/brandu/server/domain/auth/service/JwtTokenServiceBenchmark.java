@@ -0,0 +1,63 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.support.AuthFixtures;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtTokenService} 토큰 발급/파싱 벤치마크 <br/>
+ * {@code cached=false} 는 매번 서명을 검증하는 경로, {@code cached=true} 는 검증 캐시가 적중하는 경로다.
+ *
+ * @author : sunsuking
+ * @fileName : JwtTokenServiceBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private JwtTokenService jwtTokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = AuthFixtures.jwtTokenService(cached);
+        accessToken = jwtTokenService.generateToken("benchmark@brandu.shop", AUTHORITIES).getAccessToken();
+    }
+
+    @Benchmark
+    public JwtToken generateToken() {
+        return jwtTokenService.generateToken("benchmark@brandu.shop", AUTHORITIES);
+    }
+
+    @Benchmark
+    public Claims parseClaims() throws Exception {
+        return jwtTokenService.parseClaims(accessToken);
+    }
+
+    @Benchmark
+    public Authentication parseAuthentication() throws Exception {
+        return jwtTokenService.parseAuthentication(accessToken);
+    }
+
+    @Benchmark
+    public Authentication validateThenParse() throws Exception {
+        jwtTokenService.validateToken(accessToken);
+        return jwtTokenService.parseAuthentication(accessToken);
+    }
+}
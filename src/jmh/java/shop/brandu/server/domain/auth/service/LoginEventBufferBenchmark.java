@@ -0,0 +1,79 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 감사 기록 버퍼 벤치마크 <br/>
+ *
+ * <p>
+ *     요청 스레드 3 개가 넣고 소비 스레드 1 개가 64 건씩 꺼낼 때, 넣는 쪽 한 번의 비용을 비교한다.
+ *     ring 은 {@link LoginEventBuffer}, queue 는 넣을 때마다 기록 객체를 만드는 {@link ArrayBlockingQueue} 이다.
+ *     가득 차서 실패한 추가도 한 번으로 센다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventBufferBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class LoginEventBufferBenchmark {
+    private static final int CAPACITY = 8192;
+    private static final int BATCH_SIZE = 64;
+    private static final String USERNAME = "benchmark@brandu.shop";
+    private static final String IP_ADDRESS = "10.0.0.1";
+    private static final String USER_AGENT = "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_0) AppleWebKit/605.1.15";
+
+    private LoginEventBuffer buffer;
+    private ArrayBlockingQueue<LoginEvent> queue;
+
+    @Setup
+    public void setUp() {
+        buffer = new LoginEventBuffer(CAPACITY);
+        queue = new ArrayBlockingQueue<>(CAPACITY);
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(3)
+    public boolean ringOffer() {
+        return buffer.offer(LoginEventType.SIGN_IN, true, USERNAME, IP_ADDRESS, USER_AGENT, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Group("ring")
+    @GroupThreads(1)
+    public int ringDrain(Blackhole blackhole) {
+        return buffer.drain(BATCH_SIZE, slot -> blackhole.consume(slot.getUsername()));
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(3)
+    public boolean queueOffer() {
+        return queue.offer(LoginEvent.of(LoginEventType.SIGN_IN, true, USERNAME, IP_ADDRESS, USER_AGENT, LocalDateTime.now()));
+    }
+
+    @Benchmark
+    @Group("queue")
+    @GroupThreads(1)
+    public int queueDrain(Blackhole blackhole) {
+        List<LoginEvent> batch = new ArrayList<>(BATCH_SIZE);
+        int drained = queue.drainTo(batch, BATCH_SIZE);
+        blackhole.consume(batch);
+        return drained;
+    }
+}
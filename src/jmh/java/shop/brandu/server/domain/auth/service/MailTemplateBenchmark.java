@@ -0,0 +1,62 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 템플릿 렌더링 벤치마크 <br/>
+ * 매번 Thymeleaf 로 처리하는 기존 방식과 {@link MailTemplateRenderer} 의 사전 렌더링 방식을 비교한다.
+ * 메일 한 건당 할당량은 {@code -prof gc} 의 {@code gc.alloc.rate.norm} 으로 확인한다.
+ *
+ * @author : sunsuking
+ * @fileName : MailTemplateBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MailTemplateBenchmark {
+    private SpringTemplateEngine templateEngine;
+    private MailTemplateRenderer renderer;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new MailTemplateRenderer(templateEngine, new AuthStageMetrics(new SimpleMeterRegistry()));
+        renderer.precompile();
+
+        variables = new HashMap<>();
+        variables.put("nickname", "브랜뉴");
+        variables.put("confirmURI", "http://localhost:8080/api/v1/auth/confirm?type=sign-up&code=123456&email=benchmark@brandu.shop");
+    }
+
+    @Benchmark
+    public String thymeleaf() {
+        return templateEngine.process(MailTemplateRenderer.SIGN_UP_TEMPLATE, new Context(Locale.KOREA, variables));
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return renderer.render(MailTemplateRenderer.SIGN_UP_TEMPLATE, variables, Locale.KOREA);
+    }
+}
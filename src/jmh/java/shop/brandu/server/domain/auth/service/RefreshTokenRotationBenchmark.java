@@ -0,0 +1,88 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.support.AuthFixtures;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 재발급 부하 테스트 <br/>
+ * 실제 Redis 컨테이너에 10,000 개의 세션(토큰 패밀리)을 만들어 두고, 여러 스레드가 동시에 재발급할 때의 지연 분포를 측정한다.
+ * 각 스레드는 자신이 맡은 세션만 재발급하므로 재사용 감지로 패밀리가 폐기되지 않는다.
+ *
+ * @author : sunsuking
+ * @fileName : RefreshTokenRotationBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class RefreshTokenRotationBenchmark {
+    private static final int SESSIONS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Redis {
+        GenericContainer<?> container;
+        LettuceConnectionFactory connectionFactory;
+        JwtTokenService jwtTokenService;
+
+        @Setup
+        public void setUp() {
+            container = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine")).withExposedPorts(6379);
+            container.start();
+
+            connectionFactory = new LettuceConnectionFactory(container.getHost(), container.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+
+            RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+            redisTemplate.afterPropertiesSet();
+
+            RefreshTokenFamilyStore familyStore = new RefreshTokenFamilyStore(redisTemplate, AuthFixtures.authProperties());
+            jwtTokenService = AuthFixtures.jwtTokenService(true, familyStore);
+        }
+
+        @TearDown
+        public void tearDown() {
+            connectionFactory.destroy();
+            container.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Sessions {
+        String[] refreshTokens;
+
+        @Setup
+        public void setUp(Redis redis, BenchmarkParams params) {
+            refreshTokens = new String[SESSIONS / params.getThreads()];
+            for (int i = 0; i < refreshTokens.length; i++) {
+                String username = "user" + Thread.currentThread().getId() + "-" + i + "@brandu.shop";
+                refreshTokens[i] = redis.jwtTokenService.generateToken(username, List.of(new SimpleGrantedAuthority("USER"))).getRefreshToken();
+            }
+        }
+    }
+
+    @Benchmark
+    public JwtToken refresh(Redis redis, Sessions sessions) throws Exception {
+        int index = ThreadLocalRandom.current().nextInt(sessions.refreshTokens.length);
+        JwtToken token = redis.jwtTokenService.generateTokenByRefreshToken(sessions.refreshTokens[index]);
+        sessions.refreshTokens[index] = token.getRefreshToken();
+        return token;
+    }
+}
@@ -0,0 +1,57 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import shop.brandu.server.core.properties.AuthProperties.TokenFormat;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.support.AuthFixtures;
+import shop.brandu.server.support.InMemoryRefreshTokenFamilyStore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 형식별 크기/파싱 비용 벤치마크 <br/>
+ * 검증 캐시를 끄고 매번 서명 검증과 클레임 역직렬화를 거치는 경로를 측정하며, 토큰 길이는 설정 단계에서 출력한다.
+ *
+ * @author : sunsuking
+ * @fileName : TokenFormatBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenFormatBenchmark {
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
+    private static final String USERNAME = "benchmark@brandu.shop";
+
+    @Param({"STANDARD", "COMPACT"})
+    public TokenFormat format;
+
+    private JwtTokenService jwtTokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenService = AuthFixtures.jwtTokenService(false, new InMemoryRefreshTokenFamilyStore(), format);
+        JwtToken token = jwtTokenService.generateToken(USERNAME, AUTHORITIES);
+        accessToken = token.getAccessToken();
+        System.out.printf("%n[%s] access token %d bytes, refresh token %d bytes%n",
+                format, accessToken.length(), token.getRefreshToken().length());
+    }
+
+    @Benchmark
+    public JwtToken generateToken() {
+        return jwtTokenService.generateToken(USERNAME, AUTHORITIES);
+    }
+
+    @Benchmark
+    public Authentication parseAuthentication() throws Exception {
+        return jwtTokenService.parseAuthentication(accessToken);
+    }
+}
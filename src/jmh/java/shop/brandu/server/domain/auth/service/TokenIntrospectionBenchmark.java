@@ -0,0 +1,79 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.TokenIntrospectionProperties;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.support.AuthFixtures;
+import shop.brandu.server.support.FakeRedis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 일괄 검사 벤치마크 <br/>
+ *
+ * <p>
+ *     같은 {@code batchSize} 개의 토큰을 한 번에 검사하는 경우(batch)와 한 개씩 나눠 검사하는 경우(single)를 비교한다.
+ *     single 은 토큰마다 패밀리 확인 왕복이 한 번씩 생기고, batch 는 파이프라인 한 번으로 끝난다. HTTP 요청 처리 비용은 포함하지 않는다.
+ *     Redis 는 {@link FakeRedis} 로 대체하며, {@code roundTripMicros} 로 왕복 지연을 흉내 낸다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : TokenIntrospectionBenchmark
+ * @since : 10/17/26
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenIntrospectionBenchmark {
+    @Param({"1", "10", "100"})
+    public int batchSize;
+
+    @Param({"0", "250"})
+    public long roundTripMicros;
+
+    private TokenIntrospectionService service;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() throws Exception {
+        FakeRedis redis = new FakeRedis(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+        JwtTokenService jwtTokenService = AuthFixtures.jwtTokenService(true);
+        tokens = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            JwtToken token = jwtTokenService.generateToken("user" + i + "@brandu.shop", TokenAuthorities.fromNames("USER"));
+            String familyId = JwtTokenService.familyId(jwtTokenService.verifyToken(token.getAccessToken()).getClaims());
+            redis.putValue(CacheKey.refreshFamilyKey(familyId), "jti");
+            tokens.add(token.getAccessToken());
+        }
+
+        TokenIntrospectionProperties properties = new TokenIntrospectionProperties();
+        properties.setMaxBatchSize(Math.max(properties.getMaxBatchSize(), batchSize));
+        service = new TokenIntrospectionService(jwtTokenService, redis.template(), properties, new SimpleMeterRegistry());
+        service.init();
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        blackhole.consume(service.introspect(tokens));
+    }
+
+    @Benchmark
+    public void single(Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(service.introspect(List.of(token)));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package shop.brandu.server.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.core.properties.AuthProperties;
+import shop.brandu.server.core.properties.AuthProperties.TokenFormat;
+import shop.brandu.server.core.properties.RevocationProperties;
+import shop.brandu.server.core.properties.TokenCacheProperties;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore;
+import shop.brandu.server.domain.auth.cache.VerifiedTokenCache;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics;
+import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.auth.service.TokenRevocationService;
+
+/**
+ * 벤치마크용 인증 컴포넌트 생성 도우미 <br/>
+ * 스프링 컨텍스트 없이 application.properties 와 같은 설정으로 서비스를 만든다.
+ *
+ * @author : sunsuking
+ * @fileName : AuthFixtures
+ * @since : 10/17/26
+ */
+public final class AuthFixtures {
+    public static final String SECRET_KEY = "nUf2YHEPujjBiFuQj8PhOW3f9LkyC5dkfQJrSyjgHNcVffWvZ1SeI37gIgNt4e7C";
+    public static final long TOKEN_EXPIRY = 3_000_000;
+
+    private AuthFixtures() {
+    }
+
+    public static AuthProperties authProperties() {
+        AuthProperties properties = new AuthProperties();
+        properties.setSecretKey(SECRET_KEY);
+        properties.setTokenExpiry(TOKEN_EXPIRY);
+        properties.setRefreshTokenExpiry(TOKEN_EXPIRY);
+        return properties;
+    }
+
+    public static JwtTokenService jwtTokenService(boolean cacheEnabled) {
+        return jwtTokenService(cacheEnabled, new InMemoryRefreshTokenFamilyStore());
+    }
+
+    public static JwtTokenService jwtTokenService(boolean cacheEnabled, RefreshTokenFamilyStore familyStore) {
+        return jwtTokenService(cacheEnabled, familyStore, TokenFormat.STANDARD);
+    }
+
+    public static JwtTokenService jwtTokenService(boolean cacheEnabled, RefreshTokenFamilyStore familyStore, TokenFormat tokenFormat) {
+        return jwtTokenService(cacheEnabled, familyStore, tokenFormat, new AuthStageMetrics(new SimpleMeterRegistry()));
+    }
+
+    public static JwtTokenService jwtTokenService(boolean cacheEnabled, AuthStageMetrics authStageMetrics) {
+        return jwtTokenService(cacheEnabled, new InMemoryRefreshTokenFamilyStore(), TokenFormat.STANDARD, authStageMetrics);
+    }
+
+    public static JwtTokenService jwtTokenService(
+            boolean cacheEnabled, RefreshTokenFamilyStore familyStore, TokenFormat tokenFormat, AuthStageMetrics authStageMetrics
+    ) {
+        TokenCacheProperties cacheProperties = new TokenCacheProperties();
+        cacheProperties.setEnabled(cacheEnabled);
+        VerifiedTokenCache cache = new VerifiedTokenCache(cacheProperties, new SimpleMeterRegistry());
+
+        AuthProperties authProperties = authProperties();
+        authProperties.setTokenFormat(tokenFormat);
+        JwtTokenService service = new JwtTokenService(authProperties, null, cache, familyStore, authStageMetrics);
+        service.init();
+        return service;
+    }
+
+    /**
+     * 로컬 필터 없이 항상 Redis 를 조회하는 폐기 서비스
+     */
+    public static TokenRevocationService redisOnlyRevocation(RedisTemplate<String, String> redisTemplate) {
+        RevocationProperties properties = new RevocationProperties();
+        properties.setEnabled(false);
+        TokenRevocationService service = new TokenRevocationService(redisTemplate, null, properties, new SimpleMeterRegistry());
+        service.init();
+        return service;
+    }
+}
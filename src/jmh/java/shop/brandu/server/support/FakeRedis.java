@@ -0,0 +1,105 @@
+package shop.brandu.server.support;
+
+import org.mockito.stubbing.Answer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 벤치마크용 인메모리 Redis 연결 <br/>
+ * 해시 조회(HGETALL)와 키 존재 확인(EXISTS)만 지원하며, 설정한 왕복 지연 시간만큼 대기한 뒤 응답한다.
+ * 파이프라인으로 보낸 명령은 모아 두었다가 파이프라인을 닫을 때 한 번만 대기한다.
+ *
+ * @author : sunsuking
+ * @fileName : FakeRedis
+ * @since : 10/17/26
+ */
+public final class FakeRedis {
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<Object>> pipeline = new ThreadLocal<>();
+    private final long roundTripNanos;
+
+    public FakeRedis(long roundTripNanos) {
+        this.roundTripNanos = roundTripNanos;
+    }
+
+    public void putHash(String key, Map<String, String> hash) {
+        hashes.put(key, hash);
+    }
+
+    public void putValue(String key, String value) {
+        values.put(key, value);
+    }
+
+    public RedisTemplate<String, String> template() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+        RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+
+        Answer<Map<byte[], byte[]>> hGetAll = invocation -> {
+            if (roundTripNanos > 0) LockSupport.parkNanos(roundTripNanos);
+            String key = new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8);
+            Map<byte[], byte[]> result = new LinkedHashMap<>();
+            hashes.getOrDefault(key, Map.of()).forEach((field, value) ->
+                    result.put(field.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8)));
+            return result;
+        };
+
+        Answer<Boolean> exists = invocation -> {
+            boolean found = values.containsKey(new String(invocation.<byte[]>getArgument(0), StandardCharsets.UTF_8));
+            List<Object> pending = pipeline.get();
+            if (pending != null) {
+                pending.add(found);
+                return null;
+            }
+            if (roundTripNanos > 0) LockSupport.parkNanos(roundTripNanos);
+            return found;
+        };
+
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(keyCommands.exists(any(byte[].class))).thenAnswer(exists);
+        when(connection.isPipelined()).thenAnswer(invocation -> pipeline.get() != null);
+        doAnswer(invocation -> {
+            pipeline.set(new ArrayList<>());
+            return null;
+        }).when(connection).openPipeline();
+        when(connection.closePipeline()).thenAnswer(invocation -> {
+            List<Object> results = pipeline.get();
+            pipeline.remove();
+            if (roundTripNanos > 0) LockSupport.parkNanos(roundTripNanos);
+            return results;
+        });
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(connection.hGetAll(any())).thenAnswer(hGetAll);
+        when(hashCommands.hGetAll(any())).thenAnswer(hGetAll);
+
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        StringRedisSerializer serializer = new StringRedisSerializer();
+        template.setKeySerializer(serializer);
+        template.setValueSerializer(serializer);
+        template.setHashKeySerializer(serializer);
+        template.setHashValueSerializer(serializer);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,43 @@
+package shop.brandu.server.support;
+
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 인메모리 리프레시 토큰 패밀리 저장소 <br/>
+ * Redis 없이 토큰 발급 경로만 측정할 때 사용한다.
+ *
+ * @author : sunsuking
+ * @fileName : InMemoryRefreshTokenFamilyStore
+ * @since : 10/17/26
+ */
+public class InMemoryRefreshTokenFamilyStore extends RefreshTokenFamilyStore {
+    private final Map<String, String> families = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenFamilyStore() {
+        super(null, AuthFixtures.authProperties());
+    }
+
+    @Override
+    public void start(String familyId, String tokenId) {
+        families.put(familyId, tokenId);
+    }
+
+    @Override
+    public Rotation rotate(String familyId, String tokenId, String nextTokenId) {
+        String current = families.get(familyId);
+        if (current == null) return Rotation.REVOKED;
+        if (!families.replace(familyId, tokenId, nextTokenId)) {
+            families.remove(familyId);
+            return Rotation.REUSED;
+        }
+        return Rotation.ROTATED;
+    }
+
+    @Override
+    public void revoke(String familyId) {
+        families.remove(familyId);
+    }
+}
@@ -0,0 +1,88 @@
+package shop.brandu.server.loadtest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 부하 테스트용 인증 API 클라이언트 <br/>
+ *
+ * <p>
+ *     JDK {@link HttpClient} 로 HTTP/1.1 연결을 재사용하며, 응답이 2xx 가 아니면 실패로 본다.
+ *     성공한 로그인과 재발급은 가상 사용자의 세션을 새 토큰으로 바꾼다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : AuthClient
+ * @since : 10/17/26
+ */
+public class AuthClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String password;
+
+    public AuthClient(String baseUrl, String password) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+        this.baseUrl = baseUrl;
+        this.password = password;
+    }
+
+    public boolean signIn(VirtualUser user) throws IOException, InterruptedException {
+        JsonObject body = new JsonObject();
+        body.addProperty("username", user.getUsername());
+        body.addProperty("password", password);
+        HttpRequest request = request("/api/v1/auth/sign-in")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        return updateSession(user, httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    public boolean refresh(VirtualUser user) throws IOException, InterruptedException {
+        // * 재발급 API 는 permitAll 대상이 아니므로 현재 클라이언트처럼 액세스 토큰도 함께 보낸다.
+        HttpRequest request = request("/api/v1/auth/refresh")
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .header("Cookie", "refreshToken=" + user.getRefreshToken())
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return updateSession(user, httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+    }
+
+    public boolean authenticated(VirtualUser user) throws IOException, InterruptedException {
+        HttpRequest request = request("/api/v1/users/me")
+                .header("Authorization", "Bearer " + user.getAccessToken())
+                .GET()
+                .build();
+        return isSuccess(httpClient.send(request, HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private static boolean updateSession(VirtualUser user, HttpResponse<String> response) {
+        if (!isSuccess(response)) {
+            // * 재발급에 실패한 세션은 버리고 다음 요청에서 다시 로그인한다.
+            user.clearSession();
+            return false;
+        }
+        JsonObject data = JsonParser.parseString(response.body()).getAsJsonObject().getAsJsonObject("data");
+        user.updateSession(data.get("accessToken").getAsString(), data.get("refreshToken").getAsString());
+        return true;
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+}
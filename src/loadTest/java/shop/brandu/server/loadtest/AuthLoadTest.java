@@ -0,0 +1,94 @@
+package shop.brandu.server.loadtest;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 인증 API 부하 테스트 <br/>
+ *
+ * <p>
+ *     Testcontainers 의 PostgreSQL 과 Redis 위에서 애플리케이션을 띄우고, 사용자를 일괄 등록한 뒤
+ *     로그인, 토큰 재발급, 인증이 필요한 조회를 섞어 보낸다. {@code ./gradlew loadTest} 로만 실행된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : AuthLoadTest
+ * @since : 10/17/26
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-loadtest.properties")
+class AuthLoadTest {
+    private static final String PASSWORD = "LoadTest1234!@";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:5.0.7-alpine"))
+            .withExposedPorts(6379);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Test
+    @DisplayName("인증_API_부하_테스트")
+    public void 인증_API_부하_테스트() throws Exception {
+        // * GIVEN
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        new UserSeeder(jdbcTemplate).seed(settings.getUsers(), passwordEncoder.encode(PASSWORD));
+        List<VirtualUser> users = IntStream.range(0, settings.getUsers())
+                .mapToObj(index -> new VirtualUser(UserSeeder.username(index)))
+                .toList();
+        LoadGenerator generator = new LoadGenerator(settings, new AuthClient("http://localhost:" + port, PASSWORD), users);
+
+        // * WHEN
+        LoadResult result = generator.run();
+        result.writeReport(settings.getReportDir());
+        System.out.println(result.summary());
+
+        // * THEN
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(result.errorRate()).as("error rate").isLessThanOrEqualTo(settings.getMaxErrorRate());
+        if (settings.getMaxP99() != null) {
+            for (Operation operation : settings.getMix().keySet()) {
+                softly.assertThat(result.p99(operation)).as(operation.getKey() + " p99").isLessThanOrEqualTo(settings.getMaxP99());
+            }
+        }
+        softly.assertThat(result.throughput()).as("throughput").isGreaterThanOrEqualTo(settings.getMinThroughput());
+        softly.assertAll();
+    }
+}
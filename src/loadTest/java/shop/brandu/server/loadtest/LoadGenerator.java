@@ -0,0 +1,141 @@
+package shop.brandu.server.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * 부하 생성기 <br/>
+ *
+ * <p>
+ *     예열 구간을 실행한 뒤 기록을 비우고 측정 구간을 실행한다. 요청 종류별 지연시간은 HdrHistogram {@link Recorder} 에 나노초 단위로 기록한다.
+ *     가상 사용자는 대기열에서 꺼내 한 요청을 수행한 뒤 돌려놓으며, 세션이 없는 사용자는 어떤 요청이 뽑혀도 먼저 로그인한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoadGenerator
+ * @since : 10/17/26
+ */
+@Slf4j
+public class LoadGenerator {
+    private final LoadTestSettings settings;
+    private final AuthClient client;
+    private final BlockingQueue<VirtualUser> idleUsers;
+    private final Operation[] weightedOperations;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LoadGenerator(LoadTestSettings settings, AuthClient client, List<VirtualUser> users) {
+        this.settings = settings;
+        this.client = client;
+        this.idleUsers = new LinkedBlockingQueue<>(users);
+        this.weightedOperations = settings.getMix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * 예열 후 측정 구간 실행
+     *
+     * @return {@link LoadResult}
+     */
+    public LoadResult run() throws InterruptedException {
+        log.warn("부하 테스트 예열: {}", settings.getWarmup());
+        runPhase(settings.getWarmup());
+        for (Operation operation : Operation.values()) {
+            recorders.get(operation).reset();
+            errors.get(operation).reset();
+        }
+
+        log.warn("부하 테스트 측정: {}", settings.getDuration());
+        long startedAt = System.nanoTime();
+        runPhase(settings.getDuration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errorCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, recorders.get(operation).getIntervalHistogram());
+            errorCounts.put(operation, errors.get(operation).sum());
+        }
+        return new LoadResult(settings, elapsed, histograms, errorCounts);
+    }
+
+    private void runPhase(Duration duration) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            if (settings.getModel() == LoadTestSettings.Model.CLOSED) {
+                for (int i = 0; i < settings.getConcurrency(); i++) {
+                    workers.execute(() -> {
+                        while (System.nanoTime() - deadline < 0) {
+                            execute(System.nanoTime());
+                        }
+                    });
+                }
+            } else {
+                dispatchAtFixedRate(workers, deadline);
+            }
+        } finally {
+            workers.shutdown();
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 요청 전송 시각을 미리 정해두고 작업자에게 넘긴다. 작업자가 밀려도 전송 간격은 줄지 않으므로, 응답 지연이 대기열 시간으로 드러난다.
+     */
+    private void dispatchAtFixedRate(ExecutorService workers, long deadline) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long intendedStart = System.nanoTime();
+        while (intendedStart - deadline < 0) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            long scheduled = intendedStart;
+            workers.execute(() -> execute(scheduled));
+            intendedStart += interval;
+        }
+    }
+
+    private void execute(long startedAt) {
+        VirtualUser user;
+        try {
+            user = idleUsers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        Operation operation = user.hasSession()
+                ? weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)]
+                : Operation.SIGN_IN;
+        try {
+            if (!perform(operation, user)) errors.get(operation).increment();
+        } catch (Exception e) {
+            errors.get(operation).increment();
+        } finally {
+            recorders.get(operation).recordValue(System.nanoTime() - startedAt);
+            idleUsers.add(user);
+        }
+    }
+
+    private boolean perform(Operation operation, VirtualUser user) throws Exception {
+        return switch (operation) {
+            case SIGN_IN -> client.signIn(user);
+            case REFRESH -> client.refresh(user);
+            case AUTHENTICATED -> client.authenticated(user);
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package shop.brandu.server.loadtest;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 <br/>
+ *
+ * <p>
+ *     {@link #writeReport(Path)} 는 다음 파일을 남긴다.
+ * </p>
+ * <ul>
+ *     <li>{@code summary.txt} - 요청 종류별 처리량과 지연시간 백분위 표</li>
+ *     <li>{@code summary.json} - 같은 내용의 JSON, 릴리스 간 비교에 사용한다.</li>
+ *     <li>{@code <요청 종류>.hgrm} - 마이크로초 단위 백분위 분포, HdrHistogram 플로터로 겹쳐 볼 수 있다.</li>
+ * </ul>
+ *
+ * @author : sunsuking
+ * @fileName : LoadResult
+ * @since : 10/17/26
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadResult {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    private final LoadTestSettings settings;
+    private final Duration elapsed;
+    private final Map<Operation, Histogram> histograms;
+    private final Map<Operation, Long> errors;
+
+    public long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double throughput() {
+        return totalCount() / seconds();
+    }
+
+    public double errorRate() {
+        long total = totalCount();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    public Duration p99(Operation operation) {
+        return Duration.ofNanos(histograms.get(operation).getValueAtPercentile(99.0));
+    }
+
+    public String summary() {
+        StringBuilder builder = new StringBuilder()
+                .append(settings).append('\n')
+                .append(String.format("%-14s %10s %10s %10s %10s %10s %10s %10s %8s%n",
+                        "operation", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors"));
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            builder.append(String.format("%-14s %10d %10.1f", entry.getKey().getKey(), histogram.getTotalCount(), histogram.getTotalCount() / seconds()));
+            for (double percentile : PERCENTILES) {
+                builder.append(String.format(" %10.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+            }
+            builder.append(String.format(" %10.2f %8d%n", histogram.getMaxValue() / NANOS_PER_MILLI, errors.get(entry.getKey())));
+        }
+        return builder.append(String.format("%-14s %10d %10.1f%n", "total", totalCount(), throughput())).toString();
+    }
+
+    /**
+     * 결과 파일 작성
+     *
+     * @param directory 결과 디렉터리
+     */
+    public void writeReport(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), summary(), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("summary.json"), toJson(), StandardCharsets.UTF_8);
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().getKey() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                entry.getValue().outputPercentileDistribution(out, NANOS_PER_MICRO);
+            }
+        }
+    }
+
+    private String toJson() {
+        JsonObject root = new JsonObject();
+        root.addProperty("settings", settings.toString());
+        root.addProperty("elapsedSeconds", seconds());
+        root.addProperty("throughput", throughput());
+        root.addProperty("errorRate", errorRate());
+        JsonObject operations = new JsonObject();
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            JsonObject operation = new JsonObject();
+            operation.addProperty("count", histogram.getTotalCount());
+            operation.addProperty("throughput", histogram.getTotalCount() / seconds());
+            operation.addProperty("errors", errors.get(entry.getKey()));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                operation.addProperty(PERCENTILE_LABELS[i] + "Ms", histogram.getValueAtPercentile(PERCENTILES[i]) / NANOS_PER_MILLI);
+            }
+            operation.addProperty("maxMs", histogram.getMaxValue() / NANOS_PER_MILLI);
+            operations.add(entry.getKey().getKey(), operation);
+        }
+        root.add("operations", operations);
+        return new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(root);
+    }
+
+    private double seconds() {
+        return elapsed.toNanos() / 1_000_000_000.0;
+    }
+}
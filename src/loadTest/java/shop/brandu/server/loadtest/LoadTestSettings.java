@@ -0,0 +1,98 @@
+package shop.brandu.server.loadtest;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 부하 테스트 설정 <br/>
+ *
+ * <p>
+ *     {@code loadtest.*} 시스템 속성에서 읽으며, Gradle 에서는 {@code -Ploadtest.users=10000} 처럼 넘긴다.
+ * </p>
+ * <ul>
+ *     <li>{@code model} - {@code closed} 는 {@code concurrency} 개의 작업자가 응답을 받자마자 다음 요청을 보내고,
+ *     {@code open} 은 초당 {@code rate} 개의 요청을 일정한 간격으로 보낸다.
+ *     open 모델의 지연시간은 예정된 전송 시각부터 측정하므로 서버가 밀려 대기한 시간도 포함된다.</li>
+ *     <li>{@code mix} - {@code sign-in=10,refresh=10,authenticated=80} 형식의 요청 비율</li>
+ *     <li>{@code max-p99}, {@code min-throughput} - 지정하면 결과가 기준을 넘지 못할 때 테스트가 실패한다.</li>
+ * </ul>
+ *
+ * @author : sunsuking
+ * @fileName : LoadTestSettings
+ * @since : 10/17/26
+ */
+@Getter
+public class LoadTestSettings {
+    private static final String PREFIX = "loadtest.";
+
+    private final int users;
+    private final Model model;
+    private final int concurrency;
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<Operation, Integer> mix;
+    private final Duration maxP99;
+    private final double minThroughput;
+    private final double maxErrorRate;
+    private final Path reportDir;
+
+    private LoadTestSettings() {
+        this.users = Integer.parseInt(property("users", "1000"));
+        this.model = Model.valueOf(property("model", "closed").toUpperCase());
+        this.concurrency = Integer.parseInt(property("concurrency", "32"));
+        this.rate = Integer.parseInt(property("rate", "500"));
+        this.warmup = Duration.parse(property("warmup", "PT10S"));
+        this.duration = Duration.parse(property("duration", "PT30S"));
+        this.mix = parseMix(property("mix", "sign-in=10,refresh=10,authenticated=80"));
+        String maxP99 = property("max-p99", "");
+        this.maxP99 = maxP99.isBlank() ? null : Duration.parse(maxP99);
+        this.minThroughput = Double.parseDouble(property("min-throughput", "0"));
+        this.maxErrorRate = Double.parseDouble(property("max-error-rate", "0.001"));
+        this.reportDir = Path.of(property("report-dir", "build/reports/load-test"));
+
+        // * 가상 사용자는 한 번에 한 요청만 수행하므로, 동시 실행 수보다 적으면 작업자가 사용자를 기다린다.
+        if (users < concurrency) {
+            throw new IllegalArgumentException("loadtest.users 는 loadtest.concurrency 이상이어야 합니다.");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", model=" + model.name().toLowerCase() + ", concurrency=" + concurrency
+                + (model == Model.OPEN ? ", rate=" + rate + "/s" : "")
+                + ", warmup=" + warmup + ", duration=" + duration + ", mix=" + mixString();
+    }
+
+    private String mixString() {
+        StringJoiner joiner = new StringJoiner(",");
+        mix.forEach((operation, weight) -> joiner.add(operation.getKey() + "=" + weight));
+        return joiner.toString();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Operation.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    public enum Model {
+        CLOSED, OPEN
+    }
+}
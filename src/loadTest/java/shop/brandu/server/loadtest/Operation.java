@@ -0,0 +1,28 @@
+package shop.brandu.server.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 요청 종류 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : Operation
+ * @since : 10/17/26
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Operation {
+    SIGN_IN("sign-in"),
+    REFRESH("refresh"),
+    AUTHENTICATED("authenticated");
+
+    private final String key;
+
+    public static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) return operation;
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + key);
+    }
+}
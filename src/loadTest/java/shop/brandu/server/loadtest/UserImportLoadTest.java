@@ -0,0 +1,163 @@
+package shop.brandu.server.loadtest;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.RoleType;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 일괄 등록 처리량 측정 <br/>
+ *
+ * <p>
+ *     {@code loadtest.import.rows} 행의 본문을 만들면서 바로 전송하고, 서버가 응답한 초당 등록 행 수를 기록한다.
+ *     {@code loadtest.import.pre-hashed=true} 이면 모든 행에 같은 BCrypt 해시를 넣어 해싱을 제외한 저장 경로만 측정한다.
+ *     {@code ./gradlew loadTest --tests '*UserImportLoadTest' -Ploadtest.import.rows=300000} 처럼 실행한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserImportLoadTest
+ * @since : 10/17/26
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-loadtest.properties")
+class UserImportLoadTest {
+    private static final String PASSWORD = "LoadTest1234!@";
+    private static final int LINES_PER_PART = 1_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:5.0.7-alpine"))
+            .withExposedPorts(6379);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @DynamicPropertySource
+    static void containerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Test
+    @DisplayName("사용자_일괄_등록_처리량_테스트")
+    public void 사용자_일괄_등록_처리량_테스트() throws Exception {
+        // * GIVEN
+        int rows = Integer.getInteger("loadtest.import.rows", 100_000);
+        String format = System.getProperty("loadtest.import.format", "csv");
+        boolean preHashed = Boolean.parseBoolean(System.getProperty("loadtest.import.pre-hashed", "true"));
+        String password = preHashed ? passwordEncoder.encode(PASSWORD) : PASSWORD;
+        String accessToken = jwtTokenService.generateTokenByLocal(
+                new Credential(0L, "admin@brandu.shop", "admin@brandu.shop", "", RoleType.ADMIN, true, false)
+        ).getAccessToken();
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/admin/users/import"))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "csv".equals(format) ? "text/csv" : "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body(rows, format, password)))
+                .build();
+
+        // * WHEN
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build()
+                .send(request, HttpResponse.BodyHandlers.ofString());
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        // * THEN
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        JsonObject report = JsonParser.parseString(response.body()).getAsJsonObject().getAsJsonObject("data");
+        String summary = String.format(
+                "format=%s, pre-hashed=%s, rows=%d, imported=%d, failed=%d, server=%.0f rows/s, client=%.0f rows/s (%.1fs)",
+                format, preHashed, rows, report.get("imported").getAsLong(), report.get("failed").getAsLong(),
+                report.get("rowsPerSecond").getAsDouble(), rows / elapsedSeconds, elapsedSeconds
+        );
+        System.out.println(summary);
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "build/reports/load-test"));
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("user-import.txt"), summary + System.lineSeparator());
+
+        assertThat(report.get("imported").getAsLong()).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class)).isEqualTo(rows);
+    }
+
+    /**
+     * 본문을 미리 만들지 않고 {@link #LINES_PER_PART} 줄씩 만들어 이어 붙인다.
+     */
+    private static InputStream body(int rows, String format, String password) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < rows;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                StringBuilder part = new StringBuilder();
+                if (next < 0) {
+                    if ("csv".equals(format)) part.append("username,email,password,nickname\n");
+                    next = 0;
+                }
+                int end = Math.min(rows, next + LINES_PER_PART);
+                for (; next < end; next++) {
+                    String username = "import-user-" + next + "@brandu.shop";
+                    if ("csv".equals(format)) {
+                        part.append(username).append(',').append(username).append(',').append(password).append(",import-user-").append(next).append('\n');
+                    } else {
+                        part.append("{\"username\":\"").append(username).append("\",\"email\":\"").append(username)
+                                .append("\",\"password\":\"").append(password).append("\",\"nickname\":\"import-user-").append(next).append("\"}\n");
+                    }
+                }
+                return new ByteArrayInputStream(part.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
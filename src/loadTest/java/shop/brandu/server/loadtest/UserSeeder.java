@@ -0,0 +1,57 @@
+package shop.brandu.server.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 사용자 일괄 등록 <br/>
+ *
+ * <p>
+ *     회원가입 API 는 사용자마다 BCrypt 해시와 메일 발송을 거치므로, 한 번 만든 해시를 모든 사용자에 재사용해 JDBC 배치로 넣는다.
+ *     PostgreSQL 드라이버의 {@code reWriteBatchedInserts} 와 함께 쓰면 배치 하나가 다중 행 INSERT 로 전송된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserSeeder
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+public class UserSeeder {
+    private static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_SQL = """
+            INSERT INTO users (id, username, email, password, nickname, provider_type, role_type,
+                               is_email_verified, is_locked, created_at, updated_at)
+            VALUES (nextval('users_seq'), ?, ?, ?, ?, 'LOCAL', 'USER', true, false, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String username(int index) {
+        return "load-user-" + index + "@brandu.shop";
+    }
+
+    /**
+     * 사용자 등록, 모든 사용자는 같은 비밀번호를 가진다.
+     *
+     * @param count           사용자 수
+     * @param encodedPassword 인코딩된 비밀번호
+     */
+    public void seed(int count, String encodedPassword) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String username = username(i);
+            batch.add(new Object[]{username, username, encodedPassword, "load-user-" + i, now, now});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+}
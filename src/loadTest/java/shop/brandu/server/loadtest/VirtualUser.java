@@ -0,0 +1,34 @@
+package shop.brandu.server.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 가상 사용자 <br/>
+ * 한 번에 한 작업자만 사용하므로, 리프레시 토큰 재사용 감지에 걸리는 동시 재발급은 일어나지 않는다.
+ *
+ * @author : sunsuking
+ * @fileName : VirtualUser
+ * @since : 10/17/26
+ */
+@Getter
+@RequiredArgsConstructor
+public class VirtualUser {
+    private final String username;
+    private String accessToken;
+    private String refreshToken;
+
+    public boolean hasSession() {
+        return accessToken != null;
+    }
+
+    public void updateSession(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+
+    public void clearSession() {
+        this.accessToken = null;
+        this.refreshToken = null;
+    }
+}
@@ -1,6 +1,7 @@
 package shop.brandu.server.core.advice;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.StacklessBranduException;
 import shop.brandu.server.core.response.ErrorResponse;
 
 @Slf4j
@@ -25,9 +27,16 @@ public class BranduControllerAdvice {
 
     @ExceptionHandler(BranduException.class)
     public ResponseEntity<ErrorResponse> handleBranduException(BranduException exception) {
-        exception.printStackTrace();
-        log.error("BranduException: {}", exception.getMessage());
-        return ResponseEntity.status(exception.getErrorCode().getStatus())
-                .body(ErrorResponse.of(exception));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(exception.getErrorCode().getStatus());
+        if (exception instanceof StacklessBranduException stackless) {
+            // * 요청 제한이나 로그인 지연처럼 대량으로 발생하는 거절은 오류 로그를 남기지 않는다.
+            log.debug("BranduException: {}", exception.getMessage());
+            if (stackless.getRetryAfterSeconds() > 0) {
+                response.header(HttpHeaders.RETRY_AFTER, Long.toString(stackless.getRetryAfterSeconds()));
+            }
+        } else {
+            log.error("BranduException: {}", exception.getMessage());
+        }
+        return response.body(ErrorResponse.of(exception));
     }
 }
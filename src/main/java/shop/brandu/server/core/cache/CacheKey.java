@@ -1,15 +1,83 @@
 package shop.brandu.server.core.cache;
 
+import java.util.List;
+
 public class CacheKey {
+    public static final String AUTHENTICATION_PREFIX = "authentication#";
+    public static final String EMAIL_CONFIRM_CODE_PREFIX = "emailConfirmCode#";
+    public static final String FIND_PASSWORD_CODE_PREFIX = "findPasswordCodeKey#";
+    public static final String USER_SNAPSHOT_PREFIX = "userSnapshot#";
+    public static final String USER_SNAPSHOT_VERSION_PREFIX = "userSnapshotVersion#";
+    public static final String REFRESH_FAMILY_PREFIX = "refreshFamily#";
+    public static final String RATE_LIMIT_PREFIX = "rateLimit#";
+    public static final String RECENT_WRITE_PREFIX = "recentWrite#";
+    public static final String LOGIN_FAILURE_PREFIX = "loginFailure#";
+    public static final String LOGIN_THROTTLE_PREFIX = "loginThrottle#";
+    public static final String USER_SNAPSHOT_CHANNEL = "userSnapshot:invalidate";
+    public static final String USER_ENTITY_CHANNEL = "userEntity:invalidate";
+    public static final String LOGIN_THROTTLE_CHANNEL = "loginThrottle:invalidate";
+
+    /**
+     * 모든 키 접두사, Redis 명령 지연 메트릭의 태그로 사용된다.
+     */
+    public static final List<String> PREFIXES = List.of(
+            AUTHENTICATION_PREFIX,
+            EMAIL_CONFIRM_CODE_PREFIX,
+            FIND_PASSWORD_CODE_PREFIX,
+            USER_SNAPSHOT_PREFIX,
+            USER_SNAPSHOT_VERSION_PREFIX,
+            REFRESH_FAMILY_PREFIX,
+            RATE_LIMIT_PREFIX,
+            RECENT_WRITE_PREFIX,
+            LOGIN_FAILURE_PREFIX,
+            LOGIN_THROTTLE_PREFIX
+    );
+
     public static String authenticationKey(String username) {
-        return "authentication#" + username;
+        return AUTHENTICATION_PREFIX + username;
     }
 
     public static String emailConfirmCodeKey(String email) {
-        return "emailConfirmCode#" + email;
+        return EMAIL_CONFIRM_CODE_PREFIX + email;
     }
 
     public static String findPasswordCodeKey(String email) {
-        return "findPasswordCodeKey#" + email;
+        return FIND_PASSWORD_CODE_PREFIX + email;
+    }
+
+    public static String userSnapshotKey(String username) {
+        return USER_SNAPSHOT_PREFIX + username;
+    }
+
+    public static String userSnapshotVersionKey(String username) {
+        return USER_SNAPSHOT_VERSION_PREFIX + username;
+    }
+
+    public static String codeCooldownKey(String codeKey) {
+        return codeKey + ":cooldown";
+    }
+
+    public static String codeAttemptsKey(String codeKey) {
+        return codeKey + ":attempts";
+    }
+
+    public static String refreshFamilyKey(String familyId) {
+        return REFRESH_FAMILY_PREFIX + familyId;
+    }
+
+    public static String rateLimitKey(String policy, String subject) {
+        return RATE_LIMIT_PREFIX + policy + ":" + subject;
+    }
+
+    public static String recentWriteKey(String username) {
+        return RECENT_WRITE_PREFIX + username;
+    }
+
+    public static String loginFailureKey(String username) {
+        return LOGIN_FAILURE_PREFIX + username;
+    }
+
+    public static String loginThrottleKey(String username) {
+        return LOGIN_THROTTLE_PREFIX + username;
     }
 }
@@ -0,0 +1,48 @@
+package shop.brandu.server.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import shop.brandu.server.core.properties.PasswordHashingProperties;
+
+/**
+ * BCrypt 작업 비용(strength) 보정 <br/>
+ *
+ * <p>
+ *     최소 비용으로 몇 번 해싱해 본 뒤, 비용이 1 오를 때마다 시간이 두 배가 된다는 점을 이용해
+ *     목표 해싱 시간을 넘지 않는 가장 큰 비용을 권장 값으로 로그에 남긴다.
+ *     측정 값은 노드마다 달라 그대로 쓰면 노드를 오갈 때마다 재해싱이 반복되므로, 실제 비용은 {@code auth.password.strength} 설정으로만 정한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : BCryptStrengthCalibrator
+ * @since : 10/17/26
+ */
+@Slf4j
+final class BCryptStrengthCalibrator {
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    static void suggest(PasswordHashingProperties properties) {
+        if (!properties.isCalibrate()) return;
+
+        int minStrength = properties.getMinStrength();
+        String salt = BCrypt.gensalt(minStrength);
+        BCrypt.hashpw("calibration", salt);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        double ratio = (double) properties.getTargetHashTime().toNanos() / best;
+        int steps = ratio < 1 ? 0 : (int) Math.floor(Math.log(ratio) / Math.log(2));
+        int strength = Math.min(properties.getMaxStrength(), minStrength + steps);
+
+        log.info("이 노드의 권장 BCrypt 비용은 {} 입니다. (비용 {} 기준 {}ms, 설정 비용 {})",
+                strength, minStrength, best / 1_000_000, properties.getStrength());
+    }
+}
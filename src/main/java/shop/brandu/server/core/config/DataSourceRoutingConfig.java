@@ -0,0 +1,101 @@
+package shop.brandu.server.core.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import shop.brandu.server.core.datasource.ReplicaDataSource;
+import shop.brandu.server.core.properties.DataSourceRoutingProperties;
+import shop.brandu.server.core.properties.DataSourceRoutingProperties.Replica;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 데이터소스 분기 설정 <br/>
+ *
+ * <p>
+ *     {@code datasource.routing.enabled=true} 일 때만 적용되며, 기본 데이터소스 자동 설정을 대신한다.
+ *     {@code spring.datasource.*} 로 만든 기본 노드 풀을 {@link LazyConnectionDataSourceProxy} 로 감싸
+ *     실제 연결을 첫 SQL 을 실행할 때 얻게 하고, 그 전에 트랜잭션이 읽기 전용으로 표시되었다면 {@link ReplicaDataSource} 에서 얻는다.
+ *     Hibernate 는 세션이 닫힐 때 연결을 돌려주므로, 요청 전체가 한 세션을 쓰는 open-in-view 를 끄지 않으면
+ *     앞선 읽기 전용 트랜잭션의 복제 노드 연결로 쓰기를 시도할 수 있어 시작하지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : DataSourceRoutingConfig
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    private final DataSourceRoutingProperties properties;
+
+    @Value("${spring.jpa.open-in-view:true}")
+    private boolean openInView;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(StringUtils.hasText(dataSourceProperties.getName()) ? dataSourceProperties.getName() : "primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        List<Replica> replicas = properties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            String name = StringUtils.hasText(replica.getName()) ? replica.getName() : "replica-" + (i + 1);
+            pools.put(name, replicaPool(name, replica, primaryDataSource, meterRegistry));
+        }
+        return new ReplicaDataSource(primaryDataSource, pools, properties, meterRegistry);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        if (openInView) {
+            throw new IllegalStateException("datasource.routing.enabled=true 이면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    /**
+     * 복제 노드 풀, 크기는 기본 노드 풀과 같다. <br/>
+     * 노드가 내려가 있어도 서버는 시작하며, 연결 대기 시간을 짧게 두어 응답하지 않는 노드는 빨리 제외한다.
+     */
+    private HikariDataSource replicaPool(String name, Replica replica, HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        config.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        // * 기본 노드 풀이 아직 시작되지 않았다면 지정하지 않은 값은 음수이며, 이때는 Hikari 기본값을 따른다.
+        if (primary.getMaximumPoolSize() > 0) config.setMaximumPoolSize(primary.getMaximumPoolSize());
+        if (primary.getMinimumIdle() >= 0) config.setMinimumIdle(primary.getMinimumIdle());
+        config.setDataSourceProperties(primary.getDataSourceProperties());
+        config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        config.setInitializationFailTimeout(-1);
+        config.setReadOnly(true);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
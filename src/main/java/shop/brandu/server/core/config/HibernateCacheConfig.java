@@ -0,0 +1,91 @@
+package shop.brandu.server.core.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import shop.brandu.server.core.properties.UserCacheProperties;
+import shop.brandu.server.domain.user.entity.User;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 설정 <br/>
+ *
+ * <p>
+ *     JCache 제공자로 노드 로컬 Caffeine 을 사용하며, 모든 영역을 여기서 크기와 만료 시간을 정해 미리 만든다.
+ *     정의되지 않은 영역은 Hibernate 가 기본 설정(크기 제한 없음)으로 만들지 않도록 시작 시점에 실패시킨다.
+ *     노드 간 일관성은 {@link shop.brandu.server.domain.user.cache.UserEntityCache} 가 맡는다.
+ *     영역별 적중률은 {@code hibernate.second.level.cache.hit.ratio} 게이지로, 요청 수는 {@code hibernate.second.level.cache.requests} 메트릭으로 노출된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : HibernateCacheConfig
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Configuration
+public class HibernateCacheConfig {
+    private static final List<String> REGIONS = List.of(User.CACHE_REGION, User.NATURAL_ID_CACHE_REGION);
+
+    private final UserCacheProperties properties;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        // * 제공자는 URI 별로 관리자를 공유하므로, 한 JVM 에 여러 컨텍스트가 떠도 영역이 섞이지 않게 컨텍스트마다 URI 를 다르게 준다.
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(properties.getRegionMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(properties.getRegionTtl().toNanos()));
+        // * Hibernate 가 넣는 캐시 엔트리는 불변이므로 저장할 때마다 직렬화 복사하지 않는다.
+        configuration.setStoreByValue(false);
+        REGIONS.forEach(region -> cacheManager.createCache(region, configuration));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGIONS) {
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                        .description("2차 캐시 영역 적중률")
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) return Double.NaN;
+
+        long requests = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return requests == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / requests;
+    }
+}
@@ -0,0 +1,77 @@
+package shop.brandu.server.core.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+import shop.brandu.server.core.properties.OAuth2HttpClientProperties;
+
+/**
+ * OAuth2 제공자 HTTP 클라이언트 설정 <br/>
+ *
+ * <p>
+ *     사용자 정보 조회는 모든 소셜 로그인이 공유하는 커넥션 풀을 사용하므로, 로그인마다 TLS 연결을 새로 맺지 않는다.
+ *     풀 상태는 {@code httpcomponents.httpclient.pool.*} 메트릭으로 노출된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : OAuth2ClientConfig
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Configuration
+public class OAuth2ClientConfig {
+    private static final String POOL_NAME = "oauth2";
+
+    private final OAuth2HttpClientProperties properties;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager oAuth2ConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient oAuth2HttpClient(PoolingHttpClientConnectionManager oAuth2ConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(oAuth2ConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .disableCookieManagement()
+                .build();
+    }
+
+    /**
+     * 사용자 정보 조회용 {@link RestTemplate}, {@code DefaultOAuth2UserService} 의 기본 설정과 같은 오류 처리기를 사용한다.
+     */
+    @Bean
+    public RestTemplate oAuth2RestTemplate(CloseableHttpClient oAuth2HttpClient) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(oAuth2HttpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+}
@@ -0,0 +1,122 @@
+package shop.brandu.server.core.config;
+
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import shop.brandu.server.core.cache.CacheKey;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 명령 지연 시간 메트릭 <br/>
+ *
+ * <p>
+ *     Lettuce 명령 리스너로 등록되어 {@code redis.command} 타이머에 명령 종류와 첫 번째 키의 접두사({@link CacheKey#PREFIXES})를 태그로 기록한다.
+ *     Lettuce 이벤트의 소요 시간은 밀리초 단위라 1ms 미만의 명령을 구분할 수 없으므로, 시작 시각을 명령 컨텍스트에 나노초로 직접 기록한다.
+ *     실패한 명령은 같은 태그로 {@code redis.command.failures} 카운터에 기록한다.
+ *     알 수 없는 접두사는 {@code other}, 키가 없는 명령은 {@code none} 으로 묶어 태그 수를 제한한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RedisCommandMetrics
+ * @since : 10/17/26
+ */
+public class RedisCommandMetrics implements CommandListener {
+    private static final String OTHER = "other";
+    private static final String NONE = "none";
+    private static final String STARTED_AT = "redis.command.startedAt";
+
+    private final MeterRegistry meterRegistry;
+    private final byte[][] prefixes;
+    private final String[] prefixTags;
+    private final Map<ProtocolKeyword, Timer[]> timers = new ConcurrentHashMap<>();
+    private final Map<ProtocolKeyword, Counter[]> failures = new ConcurrentHashMap<>();
+
+    public RedisCommandMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        List<String> keyPrefixes = CacheKey.PREFIXES;
+        this.prefixes = new byte[keyPrefixes.size()][];
+        this.prefixTags = new String[keyPrefixes.size() + 2];
+        for (int i = 0; i < keyPrefixes.size(); i++) {
+            String prefix = keyPrefixes.get(i);
+            prefixes[i] = prefix.getBytes(StandardCharsets.UTF_8);
+            prefixTags[i] = prefix.substring(0, prefix.length() - 1);
+        }
+        prefixTags[keyPrefixes.size()] = OTHER;
+        prefixTags[keyPrefixes.size() + 1] = NONE;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        event.getContext().put(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Object startedAt = event.getContext().get(STARTED_AT);
+        if (!(startedAt instanceof Long started)) return;
+
+        RedisCommand<Object, Object, Object> command = event.getCommand();
+        Timer[] byPrefix = timers.computeIfAbsent(command.getType(), type -> new Timer[prefixTags.length]);
+        int index = prefixIndex(command);
+        Timer timer = byPrefix[index];
+        if (timer == null) {
+            timer = Timer.builder("redis.command")
+                    .description("Redis 명령 지연 시간")
+                    .tag("command", command.getType().toString())
+                    .tag("key_prefix", prefixTags[index])
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            byPrefix[index] = timer;
+        }
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        RedisCommand<Object, Object, Object> command = event.getCommand();
+        Counter[] byPrefix = failures.computeIfAbsent(command.getType(), type -> new Counter[prefixTags.length]);
+        int index = prefixIndex(command);
+        Counter counter = byPrefix[index];
+        if (counter == null) {
+            counter = Counter.builder("redis.command.failures")
+                    .description("실패한 Redis 명령 수")
+                    .tag("command", command.getType().toString())
+                    .tag("key_prefix", prefixTags[index])
+                    .register(meterRegistry);
+            byPrefix[index] = counter;
+        }
+        counter.increment();
+    }
+
+    private int prefixIndex(RedisCommand<Object, Object, Object> command) {
+        ByteBuffer key = command.getArgs() == null ? null : command.getArgs().getFirstEncodedKey();
+        if (key == null) return prefixTags.length - 1;
+
+        for (int i = 0; i < prefixes.length; i++) {
+            if (startsWith(key, prefixes[i])) return i;
+        }
+        return prefixTags.length - 2;
+    }
+
+    private static boolean startsWith(ByteBuffer key, byte[] prefix) {
+        int position = key.position();
+        if (key.remaining() < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (key.get(position + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+}
@@ -1,30 +1,141 @@
 package shop.brandu.server.core.config;
 
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import shop.brandu.server.core.properties.RedisClientProperties;
 
+@RequiredArgsConstructor
 @Configuration
 public class RedisConfig {
+    private final RedisClientProperties redisClientProperties;
+    private final MeterRegistry meterRegistry;
+
     @Value("${spring.data.redis.host}")
     private String host;
 
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${spring.data.redis.database:0}")
+    private int database;
+
+    /**
+     * 모든 Redis 연결이 공유하는 이벤트 루프와 스레드 풀
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+        if (redisClientProperties.getIoThreadPoolSize() > 0) {
+            builder.ioThreadPoolSize(redisClientProperties.getIoThreadPoolSize());
+        }
+        if (redisClientProperties.getComputationThreadPoolSize() > 0) {
+            builder.computationThreadPoolSize(redisClientProperties.getComputationThreadPoolSize());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RedisCommandMetrics redisCommandMetrics() {
+        return new RedisCommandMetrics(meterRegistry);
+    }
+
+    @Primary
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        configuration.setDatabase(database);
+        return createConnectionFactory(configuration, clientConfiguration(ReadFrom.UPSTREAM));
     }
 
+    /**
+     * 읽기 전용 조회용 연결, 복제 노드를 우선으로 읽고 복제 노드가 없다면 기본 노드에서 읽는다.
+     */
+    @Bean
+    public RedisConnectionFactory replicaRedisConnectionFactory() {
+        RedisStaticMasterReplicaConfiguration configuration = new RedisStaticMasterReplicaConfiguration(host, port);
+        for (String replica : redisClientProperties.getReplicas()) {
+            int separator = replica.lastIndexOf(':');
+            configuration.addNode(replica.substring(0, separator), Integer.parseInt(replica.substring(separator + 1)));
+        }
+        configuration.setDatabase(database);
+        return createConnectionFactory(configuration, clientConfiguration(ReadFrom.REPLICA_PREFERRED));
+    }
+
+    @Primary
     @Bean
     public RedisTemplate<String, String> redisTemplate() {
+        return createTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * 복제 지연만큼 늦게 반영되어도 되는 읽기 전용 조회에 사용한다.
+     */
+    @Bean
+    public RedisTemplate<String, String> replicaRedisTemplate() {
+        return createTemplate(replicaRedisConnectionFactory());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    LettuceClientConfiguration clientConfiguration(ReadFrom readFrom) {
+        return clientConfiguration(lettuceClientResources(), redisClientProperties, readFrom);
+    }
+
+    private LettuceConnectionFactory createConnectionFactory(RedisConfiguration configuration, LettuceClientConfiguration clientConfiguration) {
+        RedisCommandMetrics metrics = redisClientProperties.isMetricsEnabled() ? redisCommandMetrics() : null;
+        return createConnectionFactory(configuration, clientConfiguration, metrics);
+    }
+
+    static LettuceClientConfiguration clientConfiguration(ClientResources clientResources, RedisClientProperties properties, ReadFrom readFrom) {
+        return LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .clientOptions(ClientOptions.builder()
+                        .timeoutOptions(TimeoutOptions.enabled(properties.getCommandTimeout()))
+                        .build())
+                .commandTimeout(properties.getCommandTimeout())
+                .shutdownTimeout(properties.getShutdownTimeout())
+                .readFrom(readFrom)
+                .build();
+    }
+
+    static LettuceConnectionFactory createConnectionFactory(RedisConfiguration configuration, LettuceClientConfiguration clientConfiguration, RedisCommandMetrics metrics) {
+        return new LettuceConnectionFactory(configuration, clientConfiguration) {
+            @Override
+            protected AbstractRedisClient createClient() {
+                AbstractRedisClient client = super.createClient();
+                if (metrics != null) client.addListener(metrics);
+                return client;
+            }
+        };
+    }
+
+    private static RedisTemplate<String, String> createTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(connectionFactory);
 
         StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
 
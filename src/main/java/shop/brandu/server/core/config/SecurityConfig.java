@@ -1,9 +1,11 @@
 package shop.brandu.server.core.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -14,10 +16,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import shop.brandu.server.core.filter.JwtAuthenticationFilter;
+import shop.brandu.server.core.filter.RateLimitFilter;
+import shop.brandu.server.core.properties.PasswordHashingProperties;
 import shop.brandu.server.domain.auth.handler.BranduAuthenticationDeniedHandler;
 import shop.brandu.server.domain.auth.handler.BranduAuthenticationEntryPoint;
 import shop.brandu.server.domain.auth.handler.OAuth2SuccessHandler;
 import shop.brandu.server.domain.auth.service.BranduOAuth2UserService;
+import shop.brandu.server.domain.user.entity.RoleType;
 
 import java.util.List;
 
@@ -36,6 +41,7 @@ public class SecurityConfig {
     private final BranduOAuth2UserService oAuth2UserService;
     private final OAuth2SuccessHandler successHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final BranduAuthenticationDeniedHandler branduAuthenticationDeniedHandler;
     private final BranduAuthenticationEntryPoint branduAuthenticationEntryPoint;
     private final String[] permitAll = {
@@ -43,6 +49,7 @@ public class SecurityConfig {
             "/api/v1/auth/sign-up",
             "/api/v1/auth/confirm",
             "/api/v1/auth/resend-email",
+            "/api/v1/auth/introspect",
             "/actuator/**",
             "/h2-console/**"
     };
@@ -62,7 +69,11 @@ public class SecurityConfig {
                         .accessDeniedHandler(branduAuthenticationDeniedHandler)
                 )
                 .authorizeHttpRequests(
-                        registry -> registry.requestMatchers(permitAll).permitAll()
+                        // * 비동기 응답의 재디스패치에는 JWT 필터가 다시 돌지 않으므로, 이미 인가된 원래 요청을 그대로 이어간다.
+                        registry -> registry.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                                .requestMatchers(permitAll).permitAll()
+                                .requestMatchers("/api/v1/admin/**").hasAuthority(RoleType.ADMIN.name())
+                                .requestMatchers(HttpMethod.GET, "/api/v1/users", "/api/v1/users/export").hasAuthority(RoleType.ADMIN.name())
                                 .anyRequest().authenticated()
                 )
                 .oauth2Login(configurer -> configurer
@@ -71,13 +82,15 @@ public class SecurityConfig {
                         .userInfoEndpoint(endPoint -> endPoint.userService(oAuth2UserService))
                         .successHandler(successHandler)
                 )
+                .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        BCryptStrengthCalibrator.suggest(passwordHashingProperties);
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
     }
 
     private CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,54 @@
+package shop.brandu.server.core.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.DataSourceRoutingProperties;
+
+import java.util.function.Supplier;
+
+/**
+ * 방금 쓴 사용자를 기본 노드에서 읽게 하는 표시 관리 <br/>
+ *
+ * <p>
+ *     이메일 인증 직후 로그인처럼 쓴 직후의 조회가 복제 노드에 아직 반영되지 않은 행을 읽지 않도록,
+ *     사용자 행을 바꾼 요청은 {@code readYourWritesWindow} 동안 유지되는 표시를 Redis 에 남긴다.
+ *     표시가 있는 사용자를 읽을 때는 {@link ReplicaDataSource#usePrimary(Supplier)} 로 기본 노드에서 읽는다.
+ *     Redis 에 두므로 다른 서버가 받은 요청에도 적용되며, 분기를 사용하지 않으면 아무것도 하지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RecentWriteTracker
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Component
+public class RecentWriteTracker {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DataSourceRoutingProperties properties;
+
+    /**
+     * 사용자 행 변경 표시, 커밋 전에 남겨 커밋 직후의 조회도 기본 노드로 가게 한다.
+     *
+     * @param username 사용자 아이디
+     */
+    public void markWritten(String username) {
+        if (!properties.isEnabled() || username == null) return;
+        redisTemplate.opsForValue().set(CacheKey.recentWriteKey(username), "1", properties.getReadYourWritesWindow());
+    }
+
+    /**
+     * 최근에 바뀐 사용자라면 기본 노드에서, 아니라면 복제 노드에서 읽는다.
+     *
+     * @param username 사용자 아이디
+     * @param read     조회 작업, 트랜잭션의 첫 조회여야 한다.
+     * @return 조회 결과
+     */
+    public <T> T readAfterWrite(String username, Supplier<T> read) {
+        if (!properties.isEnabled() || !Boolean.TRUE.equals(redisTemplate.hasKey(CacheKey.recentWriteKey(username)))) {
+            return read.get();
+        }
+        return ReplicaDataSource.usePrimary(read);
+    }
+}
@@ -0,0 +1,219 @@
+package shop.brandu.server.core.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import shop.brandu.server.core.properties.DataSourceRoutingProperties;
+import shop.brandu.server.core.properties.DataSourceRoutingProperties.Selection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션용 복제 노드 데이터소스 <br/>
+ *
+ * <p>
+ *     {@code LazyConnectionDataSourceProxy} 의 읽기 전용 대상으로 사용되며, 연결을 요청받을 때마다 사용 가능한 복제 노드 중 하나를 고른다.
+ *     {@code datasource-health} 스레드가 {@code healthCheckInterval} 마다 각 노드의 복제 지연을 조회해,
+ *     조회에 실패하거나 지연이 {@code maxLag} 를 넘은 노드는 제외하고 회복된 노드는 다시 넣는다.
+ *     연결을 얻지 못한 노드는 다음 확인까지 바로 제외하고 다른 노드를 시도하며, 사용 가능한 노드가 없으면 기본 노드로 보낸다.
+ *     {@link #usePrimary(Supplier)} 안에서는 복제 노드를 고르지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : ReplicaDataSource
+ * @since : 10/17/26
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource {
+    // * 복제 중이 아닌 노드(단독 실행)와 받은 WAL 을 모두 적용한 노드는 지연이 0 이다.
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final DataSourceRoutingProperties properties;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Counter fallbackCounter;
+
+    // * 사용 가능한 노드, 상태가 바뀔 때만 새 목록으로 바꾼다.
+    private volatile List<Replica> available = List.of();
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSource(DataSource primary, Map<String, HikariDataSource> pools, DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.properties = properties;
+        pools.forEach((name, pool) -> {
+            Replica replica = new Replica(name, pool);
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.available", replica, r -> r.healthy ? 1 : 0)
+                    .description("읽기 전용 트랜잭션에 사용 중인 복제 노드")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("마지막 상태 확인에서 조회한 복제 지연")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+        this.fallbackCounter = Counter.builder("datasource.routing.fallback")
+                .description("사용 가능한 복제 노드가 없어 기본 노드로 보낸 읽기 전용 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 안에서 새로 얻는 읽기 전용 연결을 기본 노드로 보낸다. 이미 복제 노드 연결을 가진 트랜잭션에는 영향이 없으므로,
+     * 트랜잭션의 첫 조회 전에 감싸야 한다.
+     *
+     * @param task 작업
+     * @return 작업 결과
+     */
+    public static <T> T usePrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_FORCED.get();
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) PRIMARY_FORCED.remove();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        // * 시작하자마자 연결할 수 없는 노드로 요청이 가지 않도록 첫 확인은 바로 한다.
+        checkHealth();
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "datasource-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (healthChecker != null) healthChecker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (PRIMARY_FORCED.get() == null) {
+            List<Replica> candidates = available;
+            int first = select(candidates);
+            for (int i = 0; i < candidates.size(); i++) {
+                Replica replica = candidates.get((first + i) % candidates.size());
+                try {
+                    return replica.pool.getConnection();
+                } catch (SQLException e) {
+                    eject(replica, "연결 실패 - " + e.getMessage());
+                }
+            }
+            fallbackCounter.increment();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("복제 노드 데이터소스는 설정된 계정으로만 연결합니다.");
+    }
+
+    /**
+     * 모든 복제 노드의 지연을 조회해 사용 여부를 갱신한다.
+     */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection(); Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout((int) Math.max(1, properties.getConnectionTimeout().toSeconds()));
+                try (ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                    resultSet.next();
+                    replica.lagMillis = (long) resultSet.getDouble(1);
+                }
+                if (replica.lagMillis > properties.getMaxLag().toMillis()) {
+                    eject(replica, "복제 지연 " + replica.lagMillis + "ms");
+                } else {
+                    admit(replica);
+                }
+            } catch (SQLException e) {
+                eject(replica, "상태 확인 실패 - " + e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("복제 노드 상태 확인 중 예상하지 못한 오류가 발생했습니다. replica: {}", replica.name, e);
+            }
+        }
+    }
+
+    private int select(List<Replica> candidates) {
+        if (candidates.isEmpty()) return 0;
+        int first = Math.floorMod(cursor.getAndIncrement(), candidates.size());
+        if (properties.getSelection() != Selection.LEAST_CONNECTIONS) return first;
+
+        // * 사용 중인 연결이 가장 적은 노드, 같다면 순서대로 돌아가며 고른다.
+        int selected = first;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            int index = (first + i) % candidates.size();
+            HikariPoolMXBean pool = candidates.get(index).pool.getHikariPoolMXBean();
+            int active = pool != null ? pool.getActiveConnections() : 0;
+            if (active < fewest) {
+                fewest = active;
+                selected = index;
+            }
+        }
+        return selected;
+    }
+
+    private synchronized void admit(Replica replica) {
+        if (replica.healthy) return;
+        replica.healthy = true;
+        log.info("복제 노드를 읽기 전용 트랜잭션에 사용합니다. replica: {}, lag: {}ms", replica.name, replica.lagMillis);
+        refresh();
+    }
+
+    private synchronized void eject(Replica replica, String reason) {
+        if (!replica.healthy) return;
+        replica.healthy = false;
+        log.warn("복제 노드를 읽기 전용 트랜잭션에서 제외합니다. replica: {}, reason: {}", replica.name, reason);
+        refresh();
+    }
+
+    private void refresh() {
+        available = replicas.stream().filter(replica -> replica.healthy).toList();
+    }
+
+    private static class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        private volatile boolean healthy;
+        private volatile long lagMillis;
+
+        private Replica(String name, HikariDataSource pool) {
+            this.name = name;
+            this.pool = pool;
+        }
+    }
+}
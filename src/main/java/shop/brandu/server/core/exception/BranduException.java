@@ -37,6 +37,11 @@ public class BranduException extends RuntimeException {
         this.errors = errors;
     }
 
+    protected BranduException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
     public boolean hasErrors() {
         return errors != null && errors.hasErrors();
     }
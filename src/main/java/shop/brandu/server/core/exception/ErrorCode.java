@@ -17,6 +17,8 @@ public enum ErrorCode {
     // Common (1000번대 에러 발생)
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, 1000, "올바르지 않은 입력 값 입니다. 다시 한번 확인해주세요."),
     EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, 1001, "이메일 전송에 실패했습니다. 다시 시도해주세요."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, 1002, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 1003, "요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     // Auth & User (2000번대 에러 발생)
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, 2000, "올바르지 않은 인증 토큰입니다. 다시 한번 확인해주세요."),
@@ -28,6 +30,7 @@ public enum ErrorCode {
     USER_LOCKED(HttpStatus.FORBIDDEN, 2006, "계정이 잠겼습니다. 관리자에게 문의해주세요."),
     USER_EMAIL_NOT_VERIFIED(HttpStatus.FORBIDDEN, 2007, "이메일 인증이 필요합니다."),
     USER_ALREADY_SIGN_OUT(HttpStatus.BAD_REQUEST, 2008, "이미 로그아웃된 사용자입니다."),
+    USER_SIGN_IN_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, 2009, "로그인 실패 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     ;
     private final HttpStatus status;
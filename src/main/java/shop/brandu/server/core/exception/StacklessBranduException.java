@@ -0,0 +1,30 @@
+package shop.brandu.server.core.exception;
+
+import lombok.Getter;
+
+/**
+ * 스택 트레이스를 남기지 않는 {@link BranduException} <br/>
+ * 토큰 만료처럼 요청마다 대량으로 발생하지만 원인이 분명한 인증 실패 경로에서 사용한다.
+ *
+ * @author : sunsuking
+ * @fileName : StacklessBranduException
+ * @since : 10/17/26
+ */
+@Getter
+public class StacklessBranduException extends BranduException {
+    // * 요청 제한처럼 다시 시도할 시각이 정해진 경우의 Retry-After 헤더 값(초), 0 이면 헤더를 붙이지 않는다.
+    private final long retryAfterSeconds;
+
+    public StacklessBranduException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    public StacklessBranduException(ErrorCode errorCode, String message) {
+        this(errorCode, message, 0);
+    }
+
+    public StacklessBranduException(ErrorCode errorCode, String message, long retryAfterSeconds) {
+        super(errorCode, message, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
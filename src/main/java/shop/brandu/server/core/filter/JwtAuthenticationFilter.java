@@ -6,18 +6,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import shop.brandu.server.core.cache.CacheKey;
-import shop.brandu.server.core.exception.BranduException;
 import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.exception.StacklessBranduException;
 import shop.brandu.server.domain.auth.entity.TokenValidate;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Outcome;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
 import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.auth.service.TokenRevocationService;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -34,7 +38,11 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public final String AUTHORIZATION_HEADER = "Authorization";
     private final JwtTokenService jwtTokenService;
+    // * 로그아웃 여부 조회는 읽기 전용이므로 복제 노드에서 읽는다.
+    @Qualifier("replicaRedisTemplate")
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthStageMetrics authStageMetrics;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -46,7 +54,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("Security Context에 '{}' 인증 정보를 저장했습니다", authentication.getName());
             } else {
-                throw new JwtException("유효한 JWT 토큰이 없습니다");
+                throw new StacklessBranduException(ErrorCode.INVALID_TOKEN, "유효한 JWT 토큰이 없습니다");
             }
         } catch (Exception e) {
             request.setAttribute("error-message", e.getMessage());
@@ -55,18 +63,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private void validateToken(HttpServletRequest request, Authentication authentication) {
-        String key = CacheKey.authenticationKey(authentication.getName());
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
-        if (!entries.isEmpty()) {
-            TokenValidate validate = TokenValidate.fromMap(entries);
-            Arrays.stream(request.getCookies()).filter(cookie -> cookie.getName().equals("refreshToken")).findFirst().ifPresent(cookie -> {
-                if (validate.getRefreshToken().equals(cookie.getValue()))
-                    throw new BranduException(ErrorCode.USER_ALREADY_SIGN_OUT);
-            });
+        long startedAt = authStageMetrics.start();
+        // * 로컬 필터가 로그아웃 기록이 없다고 판단하면 Redis 조회를 생략한다.
+        if (!tokenRevocationService.mightBeRevoked(authentication.getName())) {
+            authStageMetrics.stop(Stage.REVOCATION_LOOKUP, Outcome.CACHED, startedAt);
+            return;
+        }
+
+        Outcome outcome = Outcome.FAILURE;
+        try {
+            String key = CacheKey.authenticationKey(authentication.getName());
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            if (entries.isEmpty()) {
+                tokenRevocationService.recordFalsePositive();
+            } else {
+                TokenValidate validate = TokenValidate.fromMap(entries);
+                Arrays.stream(request.getCookies()).filter(cookie -> cookie.getName().equals("refreshToken")).findFirst().ifPresent(cookie -> {
+                    if (validate.getRefreshToken().equals(cookie.getValue()))
+                        throw new StacklessBranduException(ErrorCode.USER_ALREADY_SIGN_OUT);
+                });
+            }
+            outcome = Outcome.SUCCESS;
+        } finally {
+            authStageMetrics.stop(Stage.REVOCATION_LOOKUP, outcome, startedAt);
         }
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
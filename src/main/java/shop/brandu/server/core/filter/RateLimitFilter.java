@@ -0,0 +1,60 @@
+package shop.brandu.server.core.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.RateLimitProperties;
+import shop.brandu.server.core.ratelimit.RateLimiter;
+import shop.brandu.server.core.ratelimit.RateLimiter.Decision;
+import shop.brandu.server.core.ratelimit.RateLimiter.Policy;
+import shop.brandu.server.core.response.ErrorResponseWriter;
+
+import java.io.IOException;
+
+/**
+ * 인증 API IP 별 요청 제한 필터 <br/>
+ *
+ * <p>
+ *     JWT 검증과 컨트롤러보다 먼저 실행되어, 버킷이 빈 IP 의 요청은 미리 인코딩된 429 응답과 Retry-After 헤더만 받는다.
+ *     프록시 뒤에서는 {@code server.forward-headers-strategy} 설정으로 원격 주소가 실제 클라이언트 IP 가 되도록 해야 한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RateLimitFilter
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !HttpMethod.POST.matches(request.getMethod())) return true;
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.getPaths().contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Decision decision = rateLimiter.tryAcquire(Policy.IP, request.getRemoteAddr());
+        if (!decision.isAllowed()) {
+            log.debug("'{}' 요청 횟수 초과: {}", request.getRemoteAddr(), request.getRequestURI());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.getRetryAfterSeconds()));
+            errorResponseWriter.write(response, ErrorCode.TOO_MANY_REQUESTS, null);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -20,4 +20,12 @@ public class AuthProperties {
     private String secretKey;
     private long tokenExpiry;
     private long refreshTokenExpiry;
+    private TokenFormat tokenFormat = TokenFormat.STANDARD;
+
+    /**
+     * 발급 토큰 형식, 파싱은 형식과 관계없이 두 형식을 모두 받는다.
+     */
+    public enum TokenFormat {
+        STANDARD, COMPACT
+    }
 }
@@ -0,0 +1,52 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 분기 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code enabled} 가 true 이면 읽기 전용 트랜잭션을 {@code replicas} 로 보낸다. 복제 노드의 계정을 비워 두면 기본 노드 계정을 사용한다.
+ *     지연이 {@code maxLag} 를 넘거나 상태 확인에 실패한 복제 노드는 다음 확인에서 회복될 때까지 제외한다.
+ *     방금 쓴 사용자는 {@code readYourWritesWindow} 동안 기본 노드에서 읽으므로, 이 값은 {@code maxLag} 와
+ *     {@code healthCheckInterval} 의 합보다 커야 한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : DataSourceRoutingProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+@Component
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+    private List<Replica> replicas = new ArrayList<>();
+    private Selection selection = Selection.ROUND_ROBIN;
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private Duration maxLag = Duration.ofSeconds(1);
+    private Duration readYourWritesWindow = Duration.ofSeconds(10);
+
+    @Getter @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+    }
+
+    /**
+     * 복제 노드 선택 방식
+     */
+    public enum Selection {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+}
@@ -0,0 +1,24 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일 인증 코드 설정 정보 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : EmailCodeProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.email-code")
+@Component
+public class EmailCodeProperties {
+    private Duration ttl = Duration.ofMinutes(5);
+    private Duration resendCooldown = Duration.ofMinutes(1);
+    private int maxAttempts = 5;
+}
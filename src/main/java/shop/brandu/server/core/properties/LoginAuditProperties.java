@@ -0,0 +1,44 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 감사 기록 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code bufferSize} 는 2 이상의 2 의 거듭제곱으로 올림한다. 소비 스레드는 버퍼가 비어 있을 때만 {@code flushInterval} 만큼 쉬므로,
+ *     기록이 저장되기까지는 최대 {@code flushInterval} 에 INSERT 한 번의 시간이 걸린다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginAuditProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.login-audit")
+@Component
+public class LoginAuditProperties {
+    private boolean enabled = true;
+    private int bufferSize = 8192;
+    private int batchSize = 500;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(5);
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+    private int maxQuerySize = 100;
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        // * 바로 버린다.
+        DROP,
+        // * 요청 스레드가 최대 blockTimeout 동안 빈자리를 기다린 뒤 버린다.
+        BLOCK
+    }
+}
@@ -0,0 +1,36 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 잠금 설정 정보 <br/>
+ *
+ * <p>
+ *     비밀번호가 틀린 횟수를 {@code window} 길이의 슬라이딩 윈도우로 센다.
+ *     {@code throttleThreshold} 번째 실패부터 {@code throttleDelay} 동안 로그인을 막고, 실패할 때마다 두 배씩 늘려 {@code maxThrottleDelay} 까지 막는다.
+ *     {@code lockThreshold} 번째 실패에서는 계정을 잠그며, 잠금은 시간이 지나도 풀리지 않아 관리자가 풀기 전까지 로그인할 수 없다.
+ *     아이디만 알면 누구나 몇 분 만에 남의 계정을 잠글 수 있으므로 기본값은 0 (지연만 적용)이고, 관리자 해제 절차가 있는 경우에만 켠다.
+ *     켤 때는 잠금 기준까지 쌓이는 지연 시간의 합이 {@code window} 보다 짧아야 잠금에 닿는다. 예를 들어 8 이면 30+60+120초를 기다린 뒤 잠긴다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginLockoutProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.lockout")
+@Component
+public class LoginLockoutProperties {
+    private boolean enabled = true;
+    private Duration window = Duration.ofMinutes(15);
+    private int throttleThreshold = 5;
+    private Duration throttleDelay = Duration.ofSeconds(30);
+    private Duration maxThrottleDelay = Duration.ofMinutes(15);
+    private int lockThreshold = 0;
+    private long localMaximumSize = 100_000;
+}
@@ -0,0 +1,33 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 메일 발송 대기열 릴레이 설정 정보 <br/>
+ *
+ * <p>
+ *     노드당 처리량은 {@code workers} x {@code batchSize} 건을 SMTP 한 번 왕복하는 시간마다 보내는 정도이며,
+ *     대기열이 비어 있을 때만 {@code pollInterval} 만큼 쉰다. {@code workers} 가 0 이면 이 노드는 전송하지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : MailOutboxProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "mail.outbox")
+@Component
+public class MailOutboxProperties {
+    private int workers = 2;
+    private int batchSize = 20;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofSeconds(30);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,32 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 제공자 사용자 정보 조회용 HTTP 클라이언트 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code connectionRequestTimeout} 은 풀에서 연결을 기다리는 최대 시간, {@code responseTimeout} 은 응답을 기다리는 최대 시간이다.
+ *     제공자가 느려지더라도 로그인 요청 스레드는 이 시간들의 합을 넘겨 붙잡히지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : OAuth2HttpClientProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.oauth2.http-client")
+@Component
+public class OAuth2HttpClientProperties {
+    private int maxConnections = 100;
+    private int maxConnectionsPerRoute = 20;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    private Duration responseTimeout = Duration.ofSeconds(3);
+    private Duration idleTimeout = Duration.ofSeconds(30);
+}
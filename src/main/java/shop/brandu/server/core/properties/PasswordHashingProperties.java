@@ -0,0 +1,35 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정 정보 <br/>
+ *
+ * <p>
+ *     BCrypt 비용은 모든 노드가 같은 {@code strength} 를 쓴다. {@code calibrate} 를 켜면 기동 시 {@code targetHashTime} 에 맞는 비용을
+ *     {@code minStrength} ~ {@code maxStrength} 안에서 측정해 로그로만 알려주며, 값을 바꾸려면 설정을 고쳐 배포한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : PasswordHashingProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.password")
+@Component
+public class PasswordHashingProperties {
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+
+    private boolean calibrate = true;
+    private Duration targetHashTime = Duration.ofMillis(250);
+    private int strength = 10;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
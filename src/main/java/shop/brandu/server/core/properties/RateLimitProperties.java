@@ -0,0 +1,55 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 API 요청 제한 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code paths} 의 POST 요청은 IP 별 버킷을, 로그인과 인증 메일 발송은 계정 별 버킷을 추가로 사용한다.
+ *     버킷은 최대 {@code capacity} 개의 토큰을 가지며 {@code refillInterval} 마다 한 개씩 채워진다.
+ *     각 서버는 Redis 에서 한 번에 {@code leaseSize} 개의 토큰을 가져와 {@code leaseTtl} 동안 로컬에서 소비한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RateLimitProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.rate-limit")
+@Component
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private List<String> paths = new ArrayList<>(List.of(
+            "/api/v1/auth/sign-in",
+            "/api/v1/auth/find-password",
+            "/api/v1/auth/resend-email"
+    ));
+    private Duration leaseTtl = Duration.ofSeconds(1);
+    private long localMaximumSize = 100_000;
+    private Bucket ip = new Bucket(20, Duration.ofSeconds(3), 5);
+    private Bucket account = new Bucket(5, Duration.ofMinutes(1), 1);
+
+    @Getter @Setter
+    public static class Bucket {
+        private int capacity;
+        private Duration refillInterval;
+        private int leaseSize;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration refillInterval, int leaseSize) {
+            this.capacity = capacity;
+            this.refillInterval = refillInterval;
+            this.leaseSize = leaseSize;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 클라이언트(Lettuce) 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code replicas} 는 {@code host:port} 목록이며, 비어 있으면 읽기 전용 조회도 기본 노드로 보낸다.
+ *     스레드 풀 크기가 0 이면 Lettuce 기본값(코어 수)을 사용한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RedisClientProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "redis.client")
+@Component
+public class RedisClientProperties {
+    private Duration commandTimeout = Duration.ofSeconds(2);
+    private Duration shutdownTimeout = Duration.ofMillis(100);
+    private int ioThreadPoolSize = 0;
+    private int computationThreadPoolSize = 0;
+    private List<String> replicas = new ArrayList<>();
+    private boolean metricsEnabled = true;
+}
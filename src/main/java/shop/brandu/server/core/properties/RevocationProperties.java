@@ -0,0 +1,26 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그아웃(토큰 폐기) 로컬 필터 설정 정보 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : RevocationProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.revocation")
+@Component
+public class RevocationProperties {
+    private boolean enabled = true;
+    private long expectedInsertions = 100_000;
+    private double falsePositiveProbability = 0.01;
+    private Duration resyncInterval = Duration.ofMinutes(10);
+    private boolean configureKeyspaceEvents = true;
+}
@@ -0,0 +1,21 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 JWT 토큰 캐시 설정 정보 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : TokenCacheProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.token-cache")
+@Component
+public class TokenCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+}
@@ -0,0 +1,28 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내부 서비스용 토큰 일괄 검사 설정 정보 <br/>
+ *
+ * <p>
+ *     요청은 {@code X-Internal-Api-Key} 헤더가 {@code apiKey} 와 같아야 하며, 값이 없으면 엔드포인트를 사용할 수 없다.
+ *     한 번에 최대 {@code maxBatchSize} 개의 토큰을 받고, {@code parallelThreshold} 개 이상이면 최대 {@code workers} 개 스레드로 나눠 검증한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : TokenIntrospectionProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "auth.introspection")
+@Component
+public class TokenIntrospectionProperties {
+    private String apiKey;
+    private int maxBatchSize = 100;
+    private int workers = 4;
+    private int parallelThreshold = 32;
+}
@@ -0,0 +1,32 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 스냅샷 캐시 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code nearTtl} 은 무효화 메시지를 놓쳤을 때 한 노드가 오래된 정보를 볼 수 있는 최대 시간이다.
+ *     {@code region*} 은 Hibernate 2차 캐시의 사용자 엔티티/자연키 영역에 각각 적용되며, {@code regionTtl} 이 같은 역할을 한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserCacheProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "user.cache")
+@Component
+public class UserCacheProperties {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration nearTtl = Duration.ofSeconds(30);
+    private Duration redisTtl = Duration.ofMinutes(10);
+    private long regionMaximumSize = 10_000;
+    private Duration regionTtl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,28 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 일괄 등록 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code chunkSize} 행마다 비밀번호를 병렬로 해싱하고 한 트랜잭션으로 저장한다.
+ *     해싱은 로그인용 실행기와 별도의 {@code hashWorkers} 개 스레드에서 수행되므로, 등록 중에도 로그인 대기열을 차지하지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserImportProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "user.import")
+@Component
+public class UserImportProperties {
+    private int chunkSize = 500;
+    private int hashWorkers = 4;
+    private int maxErrors = 1000;
+    private long progressInterval = 10_000;
+}
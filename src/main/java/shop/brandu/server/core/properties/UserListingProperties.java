@@ -0,0 +1,30 @@
+package shop.brandu.server.core.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 목록 조회 설정 정보 <br/>
+ *
+ * <p>
+ *     {@code defaultSize} 는 목록 조회에서 {@code size} 를 생략했을 때의 페이지 크기이다.
+ *     내보내기는 {@code exportFetchSize} 행씩 서버 측 커서에서 가져오므로, 전체 행 수와 상관없이 메모리 사용량이 일정하다.
+ *     내보내기 요청에만 비동기 제한 시간 {@code exportTimeout} 을 적용하며, 다른 비동기 요청은 기본 제한 시간을 따른다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserListingProperties
+ * @since : 10/17/26
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "user.listing")
+@Component
+public class UserListingProperties {
+    private int defaultSize = 20;
+    private int exportFetchSize = 1000;
+    private Duration exportTimeout = Duration.ofMinutes(30);
+}
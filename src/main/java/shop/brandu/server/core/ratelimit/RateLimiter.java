@@ -0,0 +1,231 @@
+package shop.brandu.server.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.exception.StacklessBranduException;
+import shop.brandu.server.core.properties.RateLimitProperties;
+import shop.brandu.server.core.properties.RateLimitProperties.Bucket;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 기반 요청 제한기 <br/>
+ *
+ * <p>
+ *     버킷 상태는 Redis 해시에 두고 보충과 차감을 하나의 Lua 스크립트로 처리하므로, 여러 서버가 같은 버킷을 원자적으로 공유한다.
+ *     스크립트는 Redis 서버 시각(TIME)을 사용하므로 애플리케이션 서버 간 시계 차이의 영향을 받지 않는다.
+ * </p>
+ * <p>
+ *     각 서버는 버킷에서 최대 {@code leaseSize} 개의 토큰을 한 번에 임대해 {@code leaseTtl} 동안 로컬에서 소비하고,
+ *     버킷이 비었다는 응답을 받으면 재시도 가능 시각까지 Redis 를 거치지 않고 거절한다.
+ *     임대 후 쓰지 못한 토큰은 버려지므로 제한은 설정보다 엄격해질 수는 있어도 느슨해지지는 않는다.
+ *     Redis 호출에 실패하면 인증 API 전체가 막히지 않도록 요청을 허용한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RateLimiter
+ * @since : 10/17/26
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    // * Resource 기반 스크립트는 실행마다 파일 수정 여부를 확인하므로, 기동 시 한 번 읽어 문자열로 보관한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of(loadScript("scripts/token_bucket.lua"), List.class);
+    // * 거절 상태는 재시도 시각까지 유지해야 하므로 임대 유효시간과 별개로 유휴 엔트리만 정리한다.
+    private static final Duration IDLE_TTL = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, Lease> leases;
+    private final Counter[][] decisions;
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterAccess(IDLE_TTL)
+                .build();
+        this.decisions = new Counter[Policy.values().length][Outcome.values().length];
+        for (Policy policy : Policy.values()) {
+            for (Outcome outcome : Outcome.values()) {
+                decisions[policy.ordinal()][outcome.ordinal()] = Counter.builder("auth.rate-limit.decisions")
+                        .tag("policy", policy.key)
+                        .tag("result", outcome.result)
+                        .tag("source", outcome.source)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * 토큰 한 개 획득 시도
+     *
+     * @param policy  {@link Policy}
+     * @param subject 제한 대상 (IP, 계정)
+     * @return {@link Decision}
+     */
+    public Decision tryAcquire(Policy policy, String subject) {
+        if (!properties.isEnabled()) return Decision.ALLOWED;
+
+        String key = CacheKey.rateLimitKey(policy.key, policy.normalize(subject));
+        Lease lease = leases.get(key, k -> new Lease(System.nanoTime()));
+        // * 같은 키의 동시 요청은 한 요청만 Redis 에서 토큰을 임대하고, 나머지는 임대된 토큰을 나눠 쓴다.
+        synchronized (lease) {
+            long now = System.nanoTime();
+            if (now - lease.blockedUntil < 0) {
+                return record(policy, Outcome.LOCAL_REJECTED, Decision.rejected(lease.blockedUntil - now));
+            }
+            if (lease.tokens > 0 && now - lease.expiresAt < 0) {
+                lease.tokens--;
+                return record(policy, Outcome.LOCAL_ALLOWED, Decision.ALLOWED);
+            }
+            return acquireRemote(policy, key, lease, now);
+        }
+    }
+
+    /**
+     * 토큰 한 개 획득, 버킷이 비었다면 Retry-After 값을 담은 예외를 던진다.
+     *
+     * @param policy  {@link Policy}
+     * @param subject 제한 대상 (IP, 계정)
+     */
+    public void acquire(Policy policy, String subject) {
+        Decision decision = tryAcquire(policy, subject);
+        if (!decision.isAllowed()) {
+            throw new StacklessBranduException(
+                    ErrorCode.TOO_MANY_REQUESTS,
+                    ErrorCode.TOO_MANY_REQUESTS.getMessage(),
+                    decision.getRetryAfterSeconds()
+            );
+        }
+    }
+
+    /**
+     * ARGV: [최대 토큰 수, 토큰 한 개 보충 간격(ms), 요청 토큰 수], 반환 값은 [지급된 토큰 수, 재시도까지 남은 시간(ms)].
+     */
+    private Decision acquireRemote(Policy policy, String key, Lease lease, long now) {
+        Bucket bucket = policy.bucket(properties);
+        int requested = Math.max(1, Math.min(bucket.getLeaseSize(), bucket.getCapacity()));
+        List<?> result;
+        try {
+            result = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(key),
+                    Integer.toString(bucket.getCapacity()),
+                    Long.toString(bucket.getRefillInterval().toMillis()),
+                    Integer.toString(requested)
+            );
+        } catch (RuntimeException e) {
+            log.warn("요청 제한 확인 실패, 요청을 허용합니다: {}", e.getMessage());
+            return record(policy, Outcome.FAILED_OPEN, Decision.ALLOWED);
+        }
+        if (result == null || result.size() < 2) {
+            return record(policy, Outcome.FAILED_OPEN, Decision.ALLOWED);
+        }
+
+        long granted = ((Number) result.get(0)).longValue();
+        if (granted <= 0) {
+            long retryAfterNanos = TimeUnit.MILLISECONDS.toNanos(((Number) result.get(1)).longValue());
+            lease.tokens = 0;
+            lease.blockedUntil = now + retryAfterNanos;
+            return record(policy, Outcome.REMOTE_REJECTED, Decision.rejected(retryAfterNanos));
+        }
+        lease.tokens = (int) granted - 1;
+        lease.expiresAt = now + properties.getLeaseTtl().toNanos();
+        return record(policy, Outcome.REMOTE_ALLOWED, Decision.ALLOWED);
+    }
+
+    private Decision record(Policy policy, Outcome outcome, Decision decision) {
+        decisions[policy.ordinal()][outcome.ordinal()].increment();
+        return decision;
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    public enum Policy {
+        IP("ip"),
+        ACCOUNT("account");
+
+        private final String key;
+
+        private Bucket bucket(RateLimitProperties properties) {
+            return this == IP ? properties.getIp() : properties.getAccount();
+        }
+
+        // * 대소문자만 바꿔 계정 버킷을 우회하지 못하도록 계정은 소문자로 통일한다.
+        private String normalize(String subject) {
+            return this == ACCOUNT ? subject.trim().toLowerCase(Locale.ROOT) : subject;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Decision {
+        private static final Decision ALLOWED = new Decision(true, 0);
+
+        private final boolean allowed;
+        private final long retryAfterMillis;
+
+        private static Decision rejected(long retryAfterNanos) {
+            return new Decision(false, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+        }
+
+        /**
+         * Retry-After 헤더 값, 1초 미만은 1초로 올림한다.
+         */
+        public long getRetryAfterSeconds() {
+            return Math.max(1, (retryAfterMillis + 999) / 1000);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private enum Outcome {
+        LOCAL_ALLOWED("allowed", "local"),
+        REMOTE_ALLOWED("allowed", "redis"),
+        LOCAL_REJECTED("rejected", "local"),
+        REMOTE_REJECTED("rejected", "redis"),
+        FAILED_OPEN("allowed", "fallback");
+
+        private final String result;
+        private final String source;
+    }
+
+    private static final class Lease {
+        private int tokens;
+        private long expiresAt;
+        private long blockedUntil;
+
+        private Lease(long now) {
+            this.expiresAt = now;
+            this.blockedUntil = now;
+        }
+    }
+}
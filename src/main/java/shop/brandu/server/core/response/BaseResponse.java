@@ -11,6 +11,8 @@ import java.util.List;
 @ToString
 @Getter
 public abstract class BaseResponse<T> {
+    private static final Gson GSON = new Gson();
+
     @Getter(onMethod_ = @JsonProperty("isSuccess"))
     private final boolean isSuccess;
     private final int code;
@@ -27,6 +29,6 @@ public abstract class BaseResponse<T> {
     }
 
     public String toJson() {
-        return new Gson().toJson(this);
+        return GSON.toJson(this);
     }
 }
@@ -0,0 +1,73 @@
+package shop.brandu.server.core.response;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 에러 응답 본문 작성기 <br/>
+ *
+ * <p>
+ *     {@link ErrorCode} 와 메시지 조합마다 JSON 본문을 한 번만 UTF-8 바이트로 인코딩해 두고,
+ *     이후에는 응답 {@code OutputStream} 에 그대로 쓴다. 토큰 만료가 몰리는 상황에서도 401/403 응답이 객체를 만들지 않는다.
+ *     코드별로 캐시하는 메시지 수는 제한하며, 넘치는 메시지는 매번 인코딩한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : ErrorResponseWriter
+ * @since : 10/17/26
+ */
+@Component
+public class ErrorResponseWriter {
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final int MAX_MESSAGES_PER_CODE = 64;
+
+    private final Map<ErrorCode, ConcurrentMap<String, byte[]>> bodies = new EnumMap<>(ErrorCode.class);
+
+    public ErrorResponseWriter() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            bodies.put(errorCode, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * 에러 응답 작성, 상태 코드는 {@link ErrorCode} 의 상태를 사용한다.
+     *
+     * @param response {@link HttpServletResponse}
+     * @param errorCode {@link ErrorCode}
+     * @param message  응답 메시지, null 이면 {@link ErrorCode} 의 기본 메시지
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode, String message) throws IOException {
+        byte[] body = encode(errorCode, message == null ? errorCode.getMessage() : message);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    byte[] encode(ErrorCode errorCode, String message) {
+        ConcurrentMap<String, byte[]> cached = bodies.get(errorCode);
+        byte[] body = cached.get(message);
+        if (body != null) return body;
+
+        body = toJson(errorCode, message);
+        if (cached.size() < MAX_MESSAGES_PER_CODE) {
+            byte[] previous = cached.putIfAbsent(message, body);
+            if (previous != null) return previous;
+        }
+        return body;
+    }
+
+    private static byte[] toJson(ErrorCode errorCode, String message) {
+        ErrorResponse errorResponse = ErrorResponse.of(new BranduException(errorCode), message);
+        return errorResponse.toJson().getBytes(StandardCharsets.UTF_8);
+    }
+}
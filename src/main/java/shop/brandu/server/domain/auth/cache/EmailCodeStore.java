@@ -0,0 +1,115 @@
+package shop.brandu.server.domain.auth.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.EmailCodeProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 이메일 인증 코드 저장소 <br/>
+ *
+ * <p>
+ *     발급과 검증을 각각 하나의 Lua 스크립트로 실행해 한 번의 왕복으로 처리하며,
+ *     존재 여부 확인 후 저장하는 사이에 다른 요청이 끼어드는 경쟁 상태를 없앤다.
+ *     두 스크립트 모두 KEYS 는 [인증 코드, 재발송 대기, 시도 횟수] 순서다.
+ * </p>
+ * <p>
+ *     Lettuce 는 EVALSHA 실패 후 EVAL 로 다시 보낼 때 플랫폼 기본 문자셋을 사용하므로,
+ *     스크립트에 ASCII 이외의 문자가 있으면 SHA 가 어긋나 매번 EVAL 로 실행된다. 스크립트 파일에는 주석을 두지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : EmailCodeStore
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Component
+public class EmailCodeStore {
+    // * Resource 기반 스크립트는 실행마다 파일 수정 여부를 확인하므로, 기동 시 한 번 읽어 문자열로 보관한다.
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(loadScript("scripts/issue_code.lua"), Long.class);
+    private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of(loadScript("scripts/verify_code.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EmailCodeProperties properties;
+
+    /**
+     * 인증 코드 발급, 재발송 대기시간이 지나지 않았다면 저장하지 않는다. <br/>
+     * ARGV: [코드, 코드 유효시간(ms), 재발송 대기시간(ms)], 새로 발급하면 이전 시도 횟수는 초기화된다.
+     *
+     * @param key  인증 코드 키
+     * @param code 인증 코드
+     * @return 발급 여부
+     */
+    public boolean issue(String key, String code) {
+        Long issued = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                keys(key),
+                code,
+                Long.toString(properties.getTtl().toMillis()),
+                Long.toString(properties.getResendCooldown().toMillis())
+        );
+        return Long.valueOf(1).equals(issued);
+    }
+
+    /**
+     * 인증 코드 검증, 일치하면 코드를 삭제하고 최대 시도 횟수를 넘기면 코드를 폐기한다. <br/>
+     * ARGV: [입력 코드, 최대 시도 횟수], 반환 값은 1 일치, 0 불일치, -1 만료, -2 시도 횟수 초과.
+     *
+     * @param key  인증 코드 키
+     * @param code 입력된 인증 코드
+     * @return {@link Verification}
+     */
+    public Verification verify(String key, String code) {
+        Long result = redisTemplate.execute(
+                VERIFY_SCRIPT,
+                keys(key),
+                code,
+                Integer.toString(properties.getMaxAttempts())
+        );
+        return Verification.of(result);
+    }
+
+    /**
+     * 메일 전송에 실패한 경우 바로 다시 요청할 수 있도록 발급 정보를 모두 지운다.
+     *
+     * @param key 인증 코드 키
+     */
+    public void discard(String key) {
+        redisTemplate.delete(keys(key));
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> keys(String key) {
+        return List.of(key, CacheKey.codeCooldownKey(key), CacheKey.codeAttemptsKey(key));
+    }
+
+    public enum Verification {
+        MATCHED, MISMATCHED, EXPIRED, EXHAUSTED;
+
+        private static Verification of(Long result) {
+            if (result == null) return EXPIRED;
+            return switch (result.intValue()) {
+                case 1 -> MATCHED;
+                case 0 -> MISMATCHED;
+                case -2 -> EXHAUSTED;
+                default -> EXPIRED;
+            };
+        }
+    }
+}
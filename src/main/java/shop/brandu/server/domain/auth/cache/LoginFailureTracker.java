@@ -0,0 +1,234 @@
+package shop.brandu.server.domain.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.LoginLockoutProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 실패 횟수 저장소 <br/>
+ *
+ * <p>
+ *     실패 횟수는 계정마다 Redis 해시 하나에 현재/이전 고정 윈도우의 값으로 두고, 이전 윈도우 값을 지난 비율만큼 줄여 더한 값을 슬라이딩 윈도우 실패 횟수로 쓴다.
+ *     기록과 지연 설정은 하나의 Lua 스크립트로 처리하며, Redis 서버 시각(TIME)을 사용한다.
+ *     두 스크립트 모두 KEYS 는 [실패 횟수, 로그인 지연] 순서다.
+ * </p>
+ * <p>
+ *     로그인이 지연된 계정은 남은 시간 동안 노드 로컬 캐시에 두어, 지연 중인 계정으로 반복되는 시도는 Redis 도 거치지 않고 거절한다.
+ *     지연을 풀면 Pub/Sub 으로 다른 노드의 로컬 캐시도 비운다. Redis 호출에 실패하면 로그인이 모두 막히지 않도록 지연되지 않은 것으로 본다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginFailureTracker
+ * @since : 10/17/26
+ */
+@Slf4j
+@Component
+public class LoginFailureTracker implements MessageListener {
+    // * Resource 기반 스크립트는 실행마다 파일 수정 여부를 확인하므로, 기동 시 한 번 읽어 문자열로 보관한다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CHECK_SCRIPT = RedisScript.of(loadScript("scripts/check_login_failure.lua"), List.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECORD_SCRIPT = RedisScript.of(loadScript("scripts/record_login_failure.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LoginLockoutProperties properties;
+    // * 지연이 끝나는 시각(System.nanoTime 기준)
+    private final Cache<String, Long> throttled;
+
+    public LoginFailureTracker(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            LoginLockoutProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.throttled = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getMaxThrottleDelay())
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CacheKey.LOGIN_THROTTLE_CHANNEL));
+    }
+
+    /**
+     * 로그인 지연 여부와 최근 실패 기록 조회
+     *
+     * @param username 사용자 아이디
+     * @return {@link Status}
+     */
+    public Status check(String username) {
+        long now = System.nanoTime();
+        Long blockedUntil = throttled.getIfPresent(username);
+        if (blockedUntil != null && now - blockedUntil < 0) {
+            return new Status(true, TimeUnit.NANOSECONDS.toMillis(blockedUntil - now), Source.LOCAL);
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(CHECK_SCRIPT, keys(username));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 조회 실패, 로그인을 허용합니다: {}", e.getMessage());
+            return Status.UNKNOWN;
+        }
+        if (result == null || result.size() < 2) return Status.UNKNOWN;
+
+        boolean failed = ((Number) result.get(1)).longValue() > 0;
+        long retryAfterMillis = ((Number) result.get(0)).longValue();
+        if (retryAfterMillis > 0) {
+            throttled.put(username, now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis));
+            return new Status(failed, retryAfterMillis, Source.REDIS);
+        }
+        return failed ? Status.FAILED : Status.CLEAN;
+    }
+
+    /**
+     * 실패 기록, 지연 기준을 넘었다면 로그인 지연도 함께 설정한다. <br/>
+     * ARGV: [윈도우 길이(ms), 지연 기준 횟수, 첫 지연 시간(ms), 최대 지연 시간(ms)], 반환 값은 [실패 횟수, 설정한 지연 시간(ms)].
+     *
+     * @param username 사용자 아이디
+     * @return {@link Failure}, Redis 호출에 실패하면 null
+     */
+    public Failure record(String username) {
+        List<?> result;
+        try {
+            result = redisTemplate.execute(
+                    RECORD_SCRIPT,
+                    keys(username),
+                    Long.toString(properties.getWindow().toMillis()),
+                    Integer.toString(Math.max(1, properties.getThrottleThreshold())),
+                    Long.toString(properties.getThrottleDelay().toMillis()),
+                    Long.toString(properties.getMaxThrottleDelay().toMillis())
+            );
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 실패: {}", e.getMessage());
+            return null;
+        }
+        if (result == null || result.size() < 2) return null;
+
+        Failure failure = new Failure(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+        if (failure.isThrottled()) {
+            throttled.put(username, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(failure.getDelayMillis()));
+        }
+        return failure;
+    }
+
+    /**
+     * 로그인에 성공한 계정의 실패 기록 삭제
+     *
+     * @param username 사용자 아이디
+     */
+    public void reset(String username) {
+        try {
+            redisTemplate.delete(CacheKey.loginFailureKey(username));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 실패 기록과 로그인 지연을 모두 지우고 다른 노드의 로컬 캐시도 비운다.
+     *
+     * @param username 사용자 아이디
+     */
+    public void clear(String username) {
+        try {
+            redisTemplate.delete(keys(username));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록 삭제 실패, 남은 지연 시간이 지나야 로그인할 수 있습니다. username: {}, {}", username, e.getMessage());
+        }
+        throttled.invalidate(username);
+        try {
+            redisTemplate.convertAndSend(CacheKey.LOGIN_THROTTLE_CHANNEL, username);
+        } catch (Exception e) {
+            log.warn("로그인 지연 해제 전파에 실패했습니다. 다른 노드에서는 남은 지연 시간 동안 거절될 수 있습니다. username: {}", username, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        throttled.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private static List<String> keys(String username) {
+        return List.of(CacheKey.loginFailureKey(username), CacheKey.loginThrottleKey(username));
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Status {
+        private static final Status CLEAN = new Status(false, 0, Source.REDIS);
+        private static final Status FAILED = new Status(true, 0, Source.REDIS);
+        private static final Status UNKNOWN = new Status(false, 0, Source.FALLBACK);
+
+        // * 윈도우 안에 실패 기록이 있는지 여부, 로컬 캐시에서 거절한 경우에도 true 다.
+        private final boolean failed;
+        private final long retryAfterMillis;
+        private final Source source;
+
+        public boolean isThrottled() {
+            return retryAfterMillis > 0;
+        }
+
+        /**
+         * 남은 지연 시간(초), 1초 미만은 1초로 올림한다.
+         */
+        public long getRetryAfterSeconds() {
+            return Math.max(1, (retryAfterMillis + 999) / 1000);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Failure {
+        private final int failures;
+        private final long delayMillis;
+
+        public boolean isThrottled() {
+            return delayMillis > 0;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Source {
+        LOCAL("local"),
+        REDIS("redis"),
+        FALLBACK("fallback");
+
+        private final String tag;
+    }
+}
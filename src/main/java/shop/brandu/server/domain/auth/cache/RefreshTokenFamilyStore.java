@@ -0,0 +1,103 @@
+package shop.brandu.server.domain.auth.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.AuthProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 패밀리 저장소 <br/>
+ *
+ * <p>
+ *     로그인 한 번으로 시작되는 리프레시 토큰의 연쇄를 패밀리라 하고, {@code refreshFamily#{fid}} 키에 현재 유효한 토큰 아이디(jti) 하나만 저장한다.
+ *     재발급은 비교 후 교체하는 Lua 스크립트 한 번으로 처리되며, 이미 교체된 아이디가 다시 들어오면 탈취로 보고 패밀리 전체를 폐기한다.
+ *     모든 연산은 키 하나에 대한 O(1) 연산이다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : RefreshTokenFamilyStore
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenFamilyStore {
+    // * KEYS: [패밀리], ARGV: [제시된 토큰 아이디, 새 토큰 아이디, 유효시간(ms)]
+    // * 반환 값은 1 교체, 0 재사용 감지로 폐기, -1 만료 또는 폐기된 패밀리
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(loadScript("scripts/rotate_refresh_token.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AuthProperties authProperties;
+
+    /**
+     * 새 패밀리 시작
+     *
+     * @param familyId 패밀리 아이디
+     * @param tokenId  첫 리프레시 토큰 아이디
+     */
+    public void start(String familyId, String tokenId) {
+        redisTemplate.opsForValue().set(CacheKey.refreshFamilyKey(familyId), tokenId, ttl());
+    }
+
+    /**
+     * 토큰 아이디 교체
+     *
+     * @param familyId    패밀리 아이디
+     * @param tokenId     제시된 리프레시 토큰 아이디
+     * @param nextTokenId 새로 발급할 리프레시 토큰 아이디
+     * @return {@link Rotation}
+     */
+    public Rotation rotate(String familyId, String tokenId, String nextTokenId) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(CacheKey.refreshFamilyKey(familyId)),
+                tokenId,
+                nextTokenId,
+                Long.toString(ttl().toMillis())
+        );
+        return Rotation.of(result);
+    }
+
+    /**
+     * 패밀리 폐기
+     *
+     * @param familyId 패밀리 아이디
+     */
+    public void revoke(String familyId) {
+        redisTemplate.delete(CacheKey.refreshFamilyKey(familyId));
+    }
+
+    private Duration ttl() {
+        return Duration.ofMillis(authProperties.getRefreshTokenExpiry());
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public enum Rotation {
+        ROTATED, REUSED, REVOKED;
+
+        private static Rotation of(Long result) {
+            if (result == null) return REVOKED;
+            return switch (result.intValue()) {
+                case 1 -> ROTATED;
+                case 0 -> REUSED;
+                default -> REVOKED;
+            };
+        }
+    }
+}
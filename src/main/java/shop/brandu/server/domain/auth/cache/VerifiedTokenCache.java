@@ -0,0 +1,106 @@
+package shop.brandu.server.domain.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import shop.brandu.server.core.properties.TokenCacheProperties;
+import shop.brandu.server.domain.auth.entity.VerifiedToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 토큰 캐시 <br/>
+ *
+ * <p>
+ *     토큰 원문 대신 SHA-256 다이제스트를 키로 사용하며, 각 엔트리는 늦어도 토큰의 만료 시각(exp)에 제거된다.
+ *     히트/미스/제거 카운터는 Actuator 의 {@code cache.*} 메트릭으로 노출된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : VerifiedTokenCache
+ * @since : 10/17/26
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "verifiedTokens";
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(VerifiedTokenCache::sha256);
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(TokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     *
+     * @param token JWT 토큰
+     * @return 검증 결과, 없거나 만료되었다면 null
+     */
+    public VerifiedToken getIfPresent(String token) {
+        if (!enabled) return null;
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증 결과 저장, 이미 만료된 토큰은 저장하지 않는다.
+     *
+     * @param token    JWT 토큰
+     * @param verified 검증 결과
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled || remainingNanos(verified) <= 0) return;
+        cache.put(digest(token), verified);
+    }
+
+    private String digest(String token) {
+        byte[] hash = DIGEST.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static long remainingNanos(VerifiedToken verified) {
+        Date expiration = verified.getClaims().getExpiration();
+        if (expiration == null) return 0;
+        return TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(remainingNanos(value), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return Math.max(remainingNanos(value), 0);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -16,9 +16,11 @@ import shop.brandu.server.core.properties.AuthProperties;
 import shop.brandu.server.core.response.SuccessResponse;
 import shop.brandu.server.domain.auth.dto.AuthData.*;
 import shop.brandu.server.domain.auth.service.AuthService;
-import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.auth.service.TokenIntrospectionService;
+import shop.brandu.server.domain.user.dto.UserData.Snapshot;
 
 import java.util.Arrays;
+import java.util.List;
 
 @RestController
 @Slf4j
@@ -27,6 +29,7 @@ import java.util.Arrays;
 public class AuthController {
     private final AuthService authService;
     private final AuthProperties authProperties;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     /**
      * 로그인
@@ -76,19 +79,19 @@ public class AuthController {
     /**
      * 로그아웃
      *
-     * @param user     {@link User}
+     * @param user     {@link Snapshot}
      * @param request  {@link HttpServletRequest}
      * @param response {@link HttpServletResponse}
      */
     @DeleteMapping("/sign-out")
     @ResponseStatus(value = HttpStatus.NO_CONTENT)
     public SuccessResponse<Void> signOut(
-            @CurrentUser User user,
+            @CurrentUser Snapshot user,
             HttpServletRequest request,
             HttpServletResponse response
     ) {
         Cookie cookie = parseRefreshCookie(request);
-        authService.signOut(user, cookie.getValue());
+        authService.signOut(user.getUsername(), cookie.getValue());
         removeCookie(response, "refreshToken");
         return SuccessResponse.empty();
     }
@@ -170,6 +173,28 @@ public class AuthController {
         return SuccessResponse.of(newToken);
     }
 
+    /**
+     * 내부 서비스용 토큰 일괄 검사 <br/>
+     * 사용자 토큰이 아닌 {@code X-Internal-Api-Key} 헤더로 호출자를 확인한다.
+     *
+     * @param apiKey     내부 서비스 API 키
+     * @param introspect {@link Introspect}
+     * @return 토큰과 같은 순서의 {@link Introspection} 목록
+     */
+    @PostMapping("/introspect")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<List<Introspection>> introspect(
+            @RequestHeader(value = "X-Internal-Api-Key", required = false) String apiKey,
+            @RequestBody @Validated Introspect introspect,
+            Errors errors
+    ) {
+        tokenIntrospectionService.authorize(apiKey);
+        if (errors.hasErrors()) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, errors);
+        }
+
+        return SuccessResponse.of(tokenIntrospectionService.introspect(introspect.getTokens()));
+    }
 
     private Cookie parseRefreshCookie(HttpServletRequest request) {
         return Arrays.stream(request.getCookies())
@@ -2,11 +2,18 @@ package shop.brandu.server.domain.auth.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 인증 관련 DTO 클래스 관리용 이너 클래스 <br/>
@@ -76,4 +83,49 @@ public class AuthData {
         @NotNull(message = "타입을 입력해주세요.")
         private String type;
     }
+
+    /**
+     * 로그인 감사 기록 조회 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LoginHistory {
+        private final LoginEventType type;
+        private final boolean success;
+        private final String ipAddress;
+        private final String userAgent;
+        private final LocalDateTime occurredAt;
+
+        public static LoginHistory from(LoginEvent event) {
+            return new LoginHistory(event.getType(), event.isSuccess(), event.getIpAddress(), event.getUserAgent(), event.getOccurredAt());
+        }
+    }
+
+    @Data
+    public static class Introspect {
+        @NotEmpty(message = "토큰을 입력해주세요.")
+        private List<String> tokens;
+    }
+
+    /**
+     * 토큰 검사 결과, 요청한 토큰과 같은 순서로 반환된다. <br/>
+     * 유효하지 않은 토큰은 {@code reason} 만 담는다.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Introspection {
+        private final boolean active;
+        private final String username;
+        private final List<String> authorities;
+        private final Long expiresAt;
+        private final String reason;
+
+        public static Introspection active(String username, List<String> authorities, long expiresAt) {
+            return new Introspection(true, username, authorities, expiresAt, null);
+        }
+
+        public static Introspection inactive(String reason) {
+            return new Introspection(false, null, null, null, reason);
+        }
+    }
 }
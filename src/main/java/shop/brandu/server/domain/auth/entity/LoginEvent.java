@@ -0,0 +1,71 @@
+package shop.brandu.server.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 감사 기록 엔티티 <br/>
+ *
+ * <p>
+ *     요청 스레드는 이 행을 직접 저장하지 않고 {@code LoginAuditService} 의 링 버퍼에 넣기만 하며,
+ *     소비 스레드가 여러 행을 한 번의 INSERT 로 저장한다. JPA 로는 조회만 하므로 아이디는 IDENTITY 컬럼이다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEvent
+ * @since : 10/17/26
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "login_events",
+        indexes = {
+                // * 사용자별 최근 기록 조회 인덱스
+                @Index(name = "idx_login_events_username_occurred_at_id", columnList = "username, occurred_at, id")
+        }
+)
+@Entity
+public class LoginEvent {
+    public static final int USERNAME_LENGTH = 255;
+    public static final int IP_ADDRESS_LENGTH = 45;
+    public static final int USER_AGENT_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private LoginEventType type;
+
+    @Column(nullable = false)
+    private boolean success;
+
+    @Column(nullable = false, length = USERNAME_LENGTH)
+    private String username;
+
+    @Column(name = "ip_address", length = IP_ADDRESS_LENGTH)
+    private String ipAddress;
+
+    @Column(name = "user_agent", length = USER_AGENT_LENGTH)
+    private String userAgent;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static LoginEvent of(LoginEventType type, boolean success, String username, String ipAddress, String userAgent, LocalDateTime occurredAt) {
+        LoginEvent event = new LoginEvent();
+        event.type = type;
+        event.success = success;
+        event.username = username;
+        event.ipAddress = ipAddress;
+        event.userAgent = userAgent;
+        event.occurredAt = occurredAt;
+        return event;
+    }
+}
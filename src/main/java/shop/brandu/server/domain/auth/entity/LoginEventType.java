@@ -0,0 +1,15 @@
+package shop.brandu.server.domain.auth.entity;
+
+/**
+ * 로그인 감사 기록 종류 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventType
+ * @since : 10/17/26
+ */
+public enum LoginEventType {
+    SIGN_IN,
+    OAUTH2_SIGN_IN,
+    REFRESH,
+    SIGN_OUT
+}
@@ -0,0 +1,88 @@
+package shop.brandu.server.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import shop.brandu.server.core.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 메일 발송 대기열 엔티티 <br/>
+ *
+ * <p>
+ *     메일을 보내야 하는 요청은 SMTP 를 직접 호출하지 않고 같은 트랜잭션에서 이 행만 저장한다.
+ *     요청이 롤백되면 메일도 남지 않고, 커밋된 행은 서버가 재시작되어도 {@code MailOutboxRelay} 가 이어서 전송한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : MailOutbox
+ * @since : 10/17/26
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "mail_outbox",
+        indexes = {
+                // * 릴레이가 전송 가능한 행을 오래된 순서로 가져오는 인덱스
+                @Index(name = "idx_mail_outbox_available_at_id", columnList = "available_at, id")
+        }
+)
+@Entity
+public class MailOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq")
+    @SequenceGenerator(name = "mail_outbox_seq", sequenceName = "mail_outbox_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String locale;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private Map<String, String> variables;
+
+    // * 실패한 전송 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    public static MailOutbox of(MailType type, String recipient, Locale locale, Map<String, String> variables) {
+        MailOutbox mail = new MailOutbox();
+        mail.type = type;
+        mail.recipient = recipient;
+        mail.locale = locale.toLanguageTag();
+        mail.variables = variables;
+        mail.availableAt = LocalDateTime.now();
+        return mail;
+    }
+
+    public Locale toLocale() {
+        return Locale.forLanguageTag(locale);
+    }
+
+    /**
+     * 전송 실패 기록, 지정한 시각 이후에 다시 전송한다.
+     *
+     * @param availableAt 다음 전송 시각
+     */
+    public void retryAt(LocalDateTime availableAt) {
+        this.attempts++;
+        this.availableAt = availableAt;
+    }
+}
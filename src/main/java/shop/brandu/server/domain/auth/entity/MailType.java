@@ -0,0 +1,21 @@
+package shop.brandu.server.domain.auth.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발송 메일 종류 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : MailType
+ * @since : 10/17/26
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MailType {
+    SIGN_UP("BrandU 회원가입 인증 메일입니다.", "mail/confirm_member_account_mail"),
+    FIND_PASSWORD("BrandU 비밀번호 찾기 메일입니다.", "mail/find_member_account_mail");
+
+    private final String subject;
+    private final String template;
+}
@@ -0,0 +1,21 @@
+package shop.brandu.server.domain.auth.entity;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 서명 검증이 완료된 토큰 정보 <br/>
+ * 파싱된 클레임과 미리 만들어 둔 {@link Authentication} 객체를 함께 보관한다.
+ *
+ * @author : sunsuking
+ * @fileName : VerifiedToken
+ * @since : 10/17/26
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class VerifiedToken {
+    private final Claims claims;
+    private final Authentication authentication;
+}
@@ -2,23 +2,23 @@ package shop.brandu.server.domain.auth.handler;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
-import shop.brandu.server.core.exception.BranduException;
 import shop.brandu.server.core.exception.ErrorCode;
-import shop.brandu.server.core.response.ErrorResponse;
+import shop.brandu.server.core.response.ErrorResponseWriter;
 
 import java.io.IOException;
 
+@RequiredArgsConstructor
 @Component
 public class BranduAuthenticationDeniedHandler implements AccessDeniedHandler {
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        BranduException exception = new BranduException(ErrorCode.ACCESS_DENIED);
-        ErrorResponse errorResponse = new ErrorResponse(exception, request.getAttribute("error-message").toString());
-        response.setContentType("application/json;charset=UTF-8");
-        response.getWriter().write(errorResponse.toJson());
+        Object message = request.getAttribute("error-message");
+        errorResponseWriter.write(response, ErrorCode.ACCESS_DENIED, message == null ? null : message.toString());
     }
 }
@@ -2,27 +2,23 @@ package shop.brandu.server.domain.auth.handler;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
-import shop.brandu.server.core.exception.BranduException;
 import shop.brandu.server.core.exception.ErrorCode;
-import shop.brandu.server.core.response.ErrorResponse;
+import shop.brandu.server.core.response.ErrorResponseWriter;
 
 import java.io.IOException;
 
+@RequiredArgsConstructor
 @Component
 public class BranduAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        BranduException exception = new BranduException(ErrorCode.INVALID_TOKEN);
-        if (request.getAttribute("error-message") == null) {
-            request.setAttribute("error-message", exception.getMessage());
-        }
-        ErrorResponse errorResponse = new ErrorResponse(exception, request.getAttribute("error-message").toString());
-        response.setContentType("application/json;charset=UTF-8");
-        System.out.println(errorResponse);
-        response.getWriter().write(errorResponse.toJson());
+        Object message = request.getAttribute("error-message");
+        errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN, message == null ? null : message.toString());
     }
 }
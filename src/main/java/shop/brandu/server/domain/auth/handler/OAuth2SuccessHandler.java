@@ -10,10 +10,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
 import shop.brandu.server.core.properties.AuthProperties;
 import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
 import shop.brandu.server.domain.auth.entity.UserPrincipal;
 import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.auth.service.LoginAuditService;
 
 import java.io.IOException;
 
@@ -30,11 +33,16 @@ import java.io.IOException;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final AuthProperties authProperties;
     private final JwtTokenService jwtTokenService;
+    private final LoginAuditService loginAuditService;
+    private final RecentWriteTracker recentWriteTracker;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        // * 방금 만들거나 갱신한 사용자라 첫 API 요청의 사용자 조회는 기본 노드에서 읽는다.
+        recentWriteTracker.markWritten(principal.getUsername());
         JwtToken token = jwtTokenService.generateTokenByOAuth2(principal);
+        loginAuditService.publish(LoginEventType.OAUTH2_SIGN_IN, principal.getUsername(), true, request);
 
         log.debug("신규 토큰 발급 완료: {}", token.getAccessToken());
 
@@ -0,0 +1,27 @@
+package shop.brandu.server.domain.auth.repository;
+
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+
+import java.util.List;
+
+/**
+ * 로그인 감사 기록 일괄 저장 레포지토리 인터페이스 <br/>
+ *
+ * <p>
+ *     JPA 로 저장하면 IDENTITY 아이디 때문에 행마다 INSERT 가 나가므로, 여러 행을 하나의 INSERT 문으로 직접 저장한다.
+ *     {@link LoginEventRepository} 에 합쳐서 사용한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventBatchRepository
+ * @since : 10/17/26
+ */
+public interface LoginEventBatchRepository {
+    /**
+     * 여러 행 INSERT ({@code INSERT ... VALUES (...), (...), ...}), 아이디는 채워지지 않는다.
+     *
+     * @param events 저장할 기록
+     * @return 저장한 행 수
+     */
+    int insertAll(List<LoginEvent> events);
+}
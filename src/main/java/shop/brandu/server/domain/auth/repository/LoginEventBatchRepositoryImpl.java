@@ -0,0 +1,56 @@
+package shop.brandu.server.domain.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+
+import java.util.List;
+
+/**
+ * 로그인 감사 기록 일괄 저장 레포지토리 구현체 <br/>
+ *
+ * <p>
+ *     PostgreSQL 은 한 문장에 바인딩 변수를 65535 개까지 받으므로 {@link #ROWS_PER_STATEMENT} 행씩 나눠 실행한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventBatchRepositoryImpl
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+public class LoginEventBatchRepositoryImpl implements LoginEventBatchRepository {
+    private static final String INSERT = "INSERT INTO login_events (type, success, username, ip_address, user_agent, occurred_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final int ROWS_PER_STATEMENT = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<LoginEvent> events) {
+        int inserted = 0;
+        for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+            inserted += insert(events.subList(from, Math.min(events.size(), from + ROWS_PER_STATEMENT)));
+        }
+        return inserted;
+    }
+
+    private int insert(List<LoginEvent> events) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + events.size() * (ROW.length() + 2)).append(INSERT);
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+        }
+
+        return jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (LoginEvent event : events) {
+                ps.setString(index++, event.getType().name());
+                ps.setBoolean(index++, event.isSuccess());
+                ps.setString(index++, event.getUsername());
+                ps.setString(index++, event.getIpAddress());
+                ps.setString(index++, event.getUserAgent());
+                ps.setObject(index++, event.getOccurredAt());
+            }
+        });
+    }
+}
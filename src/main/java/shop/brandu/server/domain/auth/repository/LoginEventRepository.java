@@ -0,0 +1,27 @@
+package shop.brandu.server.domain.auth.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+
+import java.util.List;
+
+/**
+ * 로그인 감사 기록 레포지토리 인터페이스 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventRepository
+ * @since : 10/17/26
+ */
+@Repository
+public interface LoginEventRepository extends JpaRepository<LoginEvent, Long>, LoginEventBatchRepository {
+    /**
+     * 사용자의 최근 기록 조회, {@code idx_login_events_username_occurred_at_id} 인덱스를 거꾸로 읽는다.
+     *
+     * @param username 사용자 아이디
+     * @param pageable 가져올 행 수
+     * @return 최근 기록부터 정렬된 목록
+     */
+    List<LoginEvent> findByUsernameOrderByOccurredAtDescIdDesc(String username, Pageable pageable);
+}
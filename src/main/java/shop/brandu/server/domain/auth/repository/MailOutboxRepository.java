@@ -0,0 +1,39 @@
+package shop.brandu.server.domain.auth.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import shop.brandu.server.domain.auth.entity.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메일 발송 대기열 레포지토리 인터페이스 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : MailOutboxRepository
+ * @since : 10/17/26
+ */
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    /**
+     * 전송할 메일을 오래된 순서로 가져와 트랜잭션이 끝날 때까지 잠근다. <br/>
+     * 잠금 대기 시간 -2 는 Hibernate 의 {@code SKIP LOCKED} 로, 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로
+     * 여러 릴레이가 서로 다른 행을 나눠 가진다. ({@code SELECT ... FOR UPDATE SKIP LOCKED})
+     *
+     * @param now      기준 시각, 재시도 대기 중인 행은 제외한다.
+     * @param pageable 가져올 행 수
+     * @return 잠근 메일 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from MailOutbox m where m.availableAt <= :now order by m.availableAt, m.id")
+    List<MailOutbox> claim(@Param("now") LocalDateTime now, Pageable pageable);
+}
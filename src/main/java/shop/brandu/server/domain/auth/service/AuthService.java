@@ -4,14 +4,13 @@ import shop.brandu.server.domain.auth.dto.AuthData.Confirm;
 import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
 import shop.brandu.server.domain.auth.dto.AuthData.SignIn;
 import shop.brandu.server.domain.auth.dto.AuthData.SignUp;
-import shop.brandu.server.domain.user.entity.User;
 
 public interface AuthService {
     JwtToken signIn(SignIn signIn);
 
     void signUp(SignUp signUp);
 
-    void signOut(User user, String refreshToken);
+    void signOut(String username, String refreshToken);
 
     boolean confirm(Confirm confirm);
 
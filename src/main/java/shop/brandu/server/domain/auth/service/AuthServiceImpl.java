@@ -2,15 +2,27 @@ package shop.brandu.server.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
 import shop.brandu.server.core.exception.BranduException;
 import shop.brandu.server.core.exception.ErrorCode;
 import shop.brandu.server.core.properties.AuthProperties;
+import shop.brandu.server.core.ratelimit.RateLimiter;
+import shop.brandu.server.core.ratelimit.RateLimiter.Policy;
+import shop.brandu.server.domain.auth.cache.EmailCodeStore;
+import shop.brandu.server.domain.auth.cache.EmailCodeStore.Verification;
 import shop.brandu.server.domain.auth.dto.AuthData.*;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
 import shop.brandu.server.domain.auth.entity.TokenValidate;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Outcome;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
+import shop.brandu.server.domain.user.cache.UserEntityCache;
+import shop.brandu.server.domain.user.cache.UserSnapshotCache;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
 import shop.brandu.server.domain.user.entity.User;
 import shop.brandu.server.domain.user.repository.UserRepository;
 
@@ -26,9 +38,18 @@ public class AuthServiceImpl implements AuthService {
     private final EmailService emailService;
     private final UserRepository userRepository;
     private final JwtTokenService jwtTokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final AuthProperties authProperties;
     private final RedisTemplate<String, String> redisTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    private final EmailCodeStore emailCodeStore;
+    private final RateLimiter rateLimiter;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserEntityCache userEntityCache;
+    private final AuthStageMetrics authStageMetrics;
+    private final LoginAuditService loginAuditService;
+    private final RecentWriteTracker recentWriteTracker;
+    private final LoginLockoutService loginLockoutService;
 
     /**
      * 로컬 사용자 로그인
@@ -39,29 +60,62 @@ public class AuthServiceImpl implements AuthService {
     @Transactional(readOnly = true)
     @Override
     public JwtToken signIn(SignIn signIn) {
-        // * 사용자 아이디 기반으로 사용자 정보 조회
-        User user = userRepository.findByUsername(signIn.getUsername()).orElseThrow(
-                () -> new BranduException(ErrorCode.USER_NOT_MATCH)
-        );
+        try {
+            JwtToken token = authenticate(signIn);
+            loginAuditService.publish(LoginEventType.SIGN_IN, signIn.getUsername(), true);
+            return token;
+        } catch (RuntimeException e) {
+            loginAuditService.publish(LoginEventType.SIGN_IN, signIn.getUsername(), false);
+            throw e;
+        }
+    }
 
-        // * 비밀번호 검사 로직 수행
-        if (!passwordEncoder.matches(signIn.getPassword(), user.getPassword())) {
-            throw new BranduException(ErrorCode.USER_NOT_MATCH);
+    private JwtToken authenticate(SignIn signIn) {
+        // * 계정 별 요청 제한 - 여러 IP 로 분산된 시도도 비밀번호 해싱 전에 차단
+        rateLimiter.acquire(Policy.ACCOUNT, signIn.getUsername());
+
+        // * 로그인 실패로 지연된 계정은 인증 정보도 조회하지 않고 차단
+        boolean failedBefore = loginLockoutService.check(signIn.getUsername());
+
+        // * 사용자 아이디 기반으로 인증 정보만 조회, 방금 가입하거나 인증한 사용자는 기본 노드에서 읽는다.
+        Credential credential;
+        try {
+            credential = authStageMetrics.record(Stage.USER_LOAD, () -> recentWriteTracker.readAfterWrite(
+                    signIn.getUsername(),
+                    () -> userRepository.findCredentialByUsername(signIn.getUsername())
+            ).orElseThrow(() -> new BranduException(ErrorCode.USER_NOT_MATCH)));
+        } catch (BranduException e) {
+            // * 없는 아이디도 실패 횟수를 기록해, 있는 계정만 지연되는 차이로 아이디를 알아낼 수 없게 한다.
+            loginLockoutService.recordFailure(signIn.getUsername());
+            throw e;
         }
 
-        // * 사용자 상태 검사 - 계정 상태 확인
-        if (user.isLocked()) {
-            throw new BranduException(ErrorCode.USER_LOCKED);
+        // * 사용자 상태 검사 - 잠긴 계정은 비밀번호 해싱 전에 차단
+        loginLockoutService.checkLocked(credential);
+
+        // * 비밀번호 검사 로직 수행, 틀리면 failure 로 기록하고 실패 횟수를 남긴다.
+        long startedAt = authStageMetrics.start();
+        boolean matched = false;
+        try {
+            matched = passwordHashingService.matches(signIn.getPassword(), credential.getPassword());
+        } finally {
+            authStageMetrics.stop(Stage.PASSWORD_MATCH, matched ? Outcome.SUCCESS : Outcome.FAILURE, startedAt);
         }
+        if (!matched) {
+            loginLockoutService.recordFailure(credential);
+            throw new BranduException(ErrorCode.USER_NOT_MATCH);
+        }
+        if (failedBefore) loginLockoutService.reset(credential.getUsername());
+        passwordHashingService.upgradeIfNeeded(credential.getId(), signIn.getPassword(), credential.getPassword());
 
         // * 사용자 상태 검사 - 이메일 인증 여부 확인
-        if (!user.isEmailVerified()) {
-            String key = redisTemplate.opsForValue().get(CacheKey.emailConfirmCodeKey(user.getEmail()));
+        if (!credential.isEmailVerified()) {
+            String key = redisTemplate.opsForValue().get(CacheKey.emailConfirmCodeKey(credential.getEmail()));
             if (key != null) throw new BranduException(ErrorCode.USER_EMAIL_NOT_VERIFIED);
             throw new BranduException(ErrorCode.USER_EMAIL_NOT_VERIFIED, "이메일 인증 유효시간이 지났습니다. 다시 인증해주세요.");
         }
 
-        return jwtTokenService.generateTokenByLocal(user);
+        return jwtTokenService.generateTokenByLocal(credential);
     }
 
     /**
@@ -71,39 +125,38 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public void signUp(SignUp signUp) {
-        if (existsByUsername(signUp.getUsername())) {
+        if (userRepository.existsByUsernameOrEmail(signUp.getUsername(), signUp.getEmail())) {
             throw new BranduException(ErrorCode.USER_ALREADY_EXISTS);
         }
 
         // 비밀번호 암호화 추가
-        signUp.setPassword(passwordEncoder.encode(signUp.getPassword()));
-
-        // 이메일 인증 코드 생성
-        String code = generateCode();
-        try {
-            emailService.sendSignUpEmail(signUp.getEmail(), signUp.getNickname(), code);
-            String key = CacheKey.emailConfirmCodeKey(signUp.getEmail());
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-            redisTemplate.opsForValue().set(key, code, Duration.ofMinutes(5));
-        } catch (Exception e) {
-            throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-        }
+        signUp.setPassword(passwordHashingService.encode(signUp.getPassword()));
         userRepository.save(User.createLocalUser(signUp));
+        recentWriteTracker.markWritten(signUp.getUsername());
+
+        // 이메일 인증 코드 생성 및 발송 예약 - 사용자 행과 같은 트랜잭션에서 저장
+        sendCode(
+                CacheKey.emailConfirmCodeKey(signUp.getEmail()),
+                code -> emailService.queueSignUpEmail(signUp.getEmail(), signUp.getNickname(), code)
+        );
     }
 
     /**
      * 로그아웃
      *
-     * @param user         {@link User}
+     * @param username     사용자 아이디
      * @param refreshToken {@link JwtToken}
      */
     @Transactional(readOnly = true)
     @Override
-    public void signOut(User user, String refreshToken) {
-        TokenValidate tokenValidate = TokenValidate.of(user.getUsername(), refreshToken);
-        String key = CacheKey.authenticationKey(user.getUsername());
+    public void signOut(String username, String refreshToken) {
+        TokenValidate tokenValidate = TokenValidate.of(username, refreshToken);
+        String key = CacheKey.authenticationKey(username);
         redisTemplate.opsForHash().putAll(key, tokenValidate.toMap());
         redisTemplate.expire(key, Duration.ofMillis(authProperties.getRefreshTokenExpiry()));
+        tokenRevocationService.markRevoked(username);
+        jwtTokenService.revokeRefreshFamily(refreshToken);
+        loginAuditService.publish(LoginEventType.SIGN_OUT, username, true);
     }
 
     /**
@@ -123,9 +176,12 @@ public class AuthServiceImpl implements AuthService {
             default -> throw new BranduException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        if (confirm.getCode().equals(redisTemplate.opsForValue().get(key))) {
-            userRepository.findByEmail(confirm.getEmail()).ifPresent(User::confirmEmail);
-            redisTemplate.delete(key);
+        if (emailCodeStore.verify(key, confirm.getCode()) == Verification.MATCHED) {
+            userRepository.confirmEmail(confirm.getEmail()).ifPresent(confirmed -> {
+                recentWriteTracker.markWritten(confirmed.getUsername());
+                userEntityCache.evict(confirmed.getId());
+                userSnapshotCache.evict(confirmed.getUsername());
+            });
             return true;
         }
         return false;
@@ -138,43 +194,26 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public void findPassword(String email) {
-        String code = generateCode();
-        try {
-            String key = CacheKey.findPasswordCodeKey(email);
-            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-            redisTemplate.opsForValue().set(key, code, Duration.ofMinutes(5));
-            emailService.sendFindPasswordEmail(email, code);
-        } catch (Exception e) {
-            throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-        }
+        rateLimiter.acquire(Policy.ACCOUNT, email);
+        sendCode(CacheKey.findPasswordCodeKey(email), code -> emailService.queueFindPasswordEmail(email, code));
     }
 
     @Override
     public void resendEmail(String email, String type) {
-        userRepository.findByEmail(email).ifPresent(user -> {
-            String code = generateCode();
-            try {
-                switch (type) {
-                    case "sign-up" -> {
-                        String key = CacheKey.emailConfirmCodeKey(email);
-                        if (Boolean.TRUE.equals(redisTemplate.hasKey(key)))
-                            throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-                        emailService.sendSignUpEmail(email, "", code);
-                        redisTemplate.opsForValue().set(key, code, Duration.ofMinutes(5));
-                    }
-                    case "find-password" -> {
-                        String key = CacheKey.findPasswordCodeKey(email);
-                        if (Boolean.TRUE.equals(redisTemplate.hasKey(key)))
-                            throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-                        redisTemplate.opsForValue().set(key, code, Duration.ofMinutes(5));
-                        emailService.sendFindPasswordEmail(email, code);
-                    }
-                    default -> throw new BranduException(ErrorCode.INVALID_INPUT_VALUE);
-                }
-            } catch (Exception e) {
-                throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
-            }
-        });
+        rateLimiter.acquire(Policy.ACCOUNT, email);
+        if (!userRepository.existsByEmail(email)) return;
+
+        switch (type) {
+            case "sign-up" -> sendCode(
+                    CacheKey.emailConfirmCodeKey(email),
+                    code -> emailService.queueSignUpEmail(email, "", code)
+            );
+            case "find-password" -> sendCode(
+                    CacheKey.findPasswordCodeKey(email),
+                    code -> emailService.queueFindPasswordEmail(email, code)
+            );
+            default -> throw new BranduException(ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     /**
@@ -185,9 +224,10 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public JwtToken refresh(String refreshToken) {
-        // * 토큰 유효성 검사
+        // * 토큰 유효성 검사, 사용자를 알 수 없는 토큰은 감사 기록을 남기지 않는다.
+        String username = null;
         try {
-            String username = jwtTokenService.getUsername(refreshToken);
+            username = jwtTokenService.getUsername(refreshToken);
             if (username == null) throw new BranduException(ErrorCode.INVALID_TOKEN);
 
 
@@ -197,17 +237,40 @@ public class AuthServiceImpl implements AuthService {
                 throw new BranduException(ErrorCode.USER_ALREADY_SIGN_OUT);
             }
 
-            return jwtTokenService.generateTokenByRefreshToken(refreshToken);
+            JwtToken token = jwtTokenService.generateTokenByRefreshToken(refreshToken);
+            loginAuditService.publish(LoginEventType.REFRESH, username, true);
+            return token;
         } catch (Exception e) {
+            loginAuditService.publish(LoginEventType.REFRESH, username, false);
             throw new BranduException(ErrorCode.INVALID_TOKEN, e.getMessage());
         }
     }
 
-    private boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
-    }
-
     private String generateCode() {
         return String.valueOf((int) (Math.random() * 900000) + 100000);
     }
+
+    /**
+     * 인증 코드를 발급하고 메일 발송을 예약한다. <br/>
+     * 재발송 대기시간 중이라면 실패하며, 트랜잭션이 커밋되지 않으면 메일도 남지 않으므로 바로 다시 요청할 수 있도록 발급 정보를 지운다.
+     *
+     * @param key  인증 코드 키
+     * @param mail 인증 코드 메일 발송 예약
+     */
+    private void sendCode(String key, CodeMail mail) {
+        String code = generateCode();
+        if (!emailCodeStore.issue(key, code)) throw new BranduException(ErrorCode.EMAIL_SEND_FAILED);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) emailCodeStore.discard(key);
+            }
+        });
+        mail.queue(code);
+    }
+
+    @FunctionalInterface
+    private interface CodeMail {
+        void queue(String code);
+    }
 }
@@ -0,0 +1,135 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 인증 단계별 소요 시간 <br/>
+ *
+ * <p>
+ *     토큰 검증부터 메일 발송까지 인증 경로의 각 단계를 {@code auth.stage} 타이머 하나에 {@code operation}, {@code outcome} 태그로 기록한다.
+ *     태그 값은 {@link Stage} 와 {@link Outcome} 으로 고정되어 있고, 단계마다 나올 수 있는 결과의 타이머만 미리 등록해 두므로
+ *     기록할 때는 배열에서 꺼내 시간을 더하기만 한다.
+ *     히스토그램 버킷은 {@code management.metrics.distribution.slo.auth.stage} 설정으로 정한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : AuthStageMetrics
+ * @since : 10/17/26
+ */
+@Component
+public class AuthStageMetrics {
+    public static final String METRIC = "auth.stage";
+
+    private final Clock clock;
+    private final Timer[][] timers = new Timer[Stage.values().length][Outcome.values().length];
+
+    public AuthStageMetrics(MeterRegistry meterRegistry) {
+        this.clock = meterRegistry.config().clock();
+        for (Stage stage : Stage.values()) {
+            for (Outcome outcome : stage.getOutcomes()) {
+                timers[stage.ordinal()][outcome.ordinal()] = Timer.builder(METRIC)
+                        .description("인증 단계별 소요 시간")
+                        .tag("operation", stage.getTag())
+                        .tag("outcome", outcome.getTag())
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * 측정 시작 시각
+     *
+     * @return {@link #stop(Stage, Outcome, long)} 에 넘길 시각 (ns)
+     */
+    public long start() {
+        return clock.monotonicTime();
+    }
+
+    /**
+     * 측정 종료
+     *
+     * @param stage     단계
+     * @param outcome   결과, 단계에 없는 결과라면 예외가 발생한다.
+     * @param startedAt {@link #start()} 가 반환한 시각
+     */
+    public void stop(Stage stage, Outcome outcome, long startedAt) {
+        Timer timer = timers[stage.ordinal()][outcome.ordinal()];
+        if (timer == null) {
+            throw new IllegalArgumentException(stage.getTag() + " 단계에는 " + outcome.getTag() + " 결과가 없습니다.");
+        }
+        timer.record(clock.monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 작업을 실행하고 예외 없이 끝나면 success, 예외가 발생하면 failure 로 기록한다.
+     *
+     * @param stage 단계
+     * @param task  작업
+     * @return 작업 결과
+     */
+    public <T> T record(Stage stage, Supplier<T> task) {
+        long startedAt = start();
+        try {
+            T result = task.get();
+            stop(stage, Outcome.SUCCESS, startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            stop(stage, Outcome.FAILURE, startedAt);
+            throw e;
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업을 실행하고 {@link #record(Stage, Supplier)} 와 같은 기준으로 기록한다.
+     *
+     * @param stage 단계
+     * @param task  작업
+     */
+    public void run(Stage stage, Runnable task) {
+        record(stage, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Stage {
+        // * 서명 검증, 이미 검증된 토큰이면 cached
+        TOKEN_VERIFY("token.verify", EnumSet.allOf(Outcome.class)),
+        // * 로그아웃 여부 조회, 로컬 필터만으로 판단하면 cached, 로그아웃된 토큰이면 failure
+        REVOCATION_LOOKUP("revocation.lookup", EnumSet.allOf(Outcome.class)),
+        // * 데이터베이스에서 사용자 조회, 없으면 failure
+        USER_LOAD("user.load", EnumSet.of(Outcome.SUCCESS, Outcome.FAILURE)),
+        // * 대기열을 포함한 BCrypt 비교, 일치하지 않으면 failure
+        PASSWORD_MATCH("password.match", EnumSet.of(Outcome.SUCCESS, Outcome.FAILURE)),
+        TOKEN_SIGN("token.sign", EnumSet.of(Outcome.SUCCESS, Outcome.FAILURE)),
+        EMAIL_RENDER("email.render", EnumSet.of(Outcome.SUCCESS, Outcome.FAILURE)),
+        // * SMTP 전송 한 번 (재시도는 각각 기록)
+        EMAIL_SEND("email.send", EnumSet.of(Outcome.SUCCESS, Outcome.FAILURE));
+
+        private final String tag;
+        private final Set<Outcome> outcomes;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Outcome {
+        SUCCESS("success"),
+        FAILURE("failure"),
+        // * 원격 호출이나 서명 검증 없이 로컬에서 응답
+        CACHED("cached");
+
+        private final String tag;
+    }
+}
@@ -1,13 +1,16 @@
 package shop.brandu.server.domain.auth.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestOperations;
 import shop.brandu.server.domain.auth.attribute.OAuth2Attribute;
 import shop.brandu.server.domain.auth.attribute.OAuth2AttributeFactory;
 import shop.brandu.server.domain.auth.entity.ProviderType;
@@ -15,35 +18,49 @@ import shop.brandu.server.domain.auth.entity.UserPrincipal;
 import shop.brandu.server.domain.user.entity.User;
 import shop.brandu.server.domain.user.repository.UserRepository;
 
-import java.util.Optional;
-
 /**
  * 인증 관련 서비스 클래스 <br/>
  *
+ * <p>
+ *     제공자 사용자 정보 조회는 공유 커넥션 풀을 쓰는 {@link DefaultOAuth2UserService} 한 개로 처리하고,
+ *     사용자 조회와 생성은 이메일 기준 upsert 한 번으로 끝내 동시에 처음 로그인하는 요청끼리 경쟁하지 않는다.
+ *     제공자 응답 시간은 {@code auth.oauth2.user-info}, 사용자 등록 시간은 {@code auth.oauth2.provision} 메트릭으로 남긴다.
+ * </p>
+ *
  * @author : sunsuking
  * @fileName : OAuth2UserService
  * @since : 4/17/24
  */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class BranduOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
     private final UserRepository userRepository;
+    private final DefaultOAuth2UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    public BranduOAuth2UserService(
+            UserRepository userRepository,
+            @Qualifier("oAuth2RestTemplate") RestOperations restOperations,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.userService = new DefaultOAuth2UserService();
+        this.userService.setRestOperations(restOperations);
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
-        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
-        OAuth2User user = userService.loadUser(userRequest);
-
         ProviderType provider = ProviderType.valueOf(userRequest.getClientRegistration().getRegistrationId().toUpperCase());
+        OAuth2User user = fetchUser(provider, userRequest);
+
         OAuth2Attribute attribute = OAuth2AttributeFactory.parseAttribute(provider, user.getAttributes());
         log.debug("OAUTH2 기반의 로그인 요청 -> provider: {}, user: {}", provider, user);
 
         // * 해당 요청은 OAuth2 기반의 요청이기에 일치하는 사용자가 없다면 새로운 사용자를 생성한다.
-        log.debug("사용자 요청 이메일 정보: {}", Optional.ofNullable(user.getAttribute("email")));
-        log.debug("레포지토리에 저장된 사용자 정보: {}", userRepository.findByEmail(user.getAttribute("email")));
-        User findUser = userRepository.findByEmail(user.getAttribute("email"))
-                .orElseGet(() -> userRepository.save(User.createOAuthUser(attribute, provider)));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        User findUser = userRepository.upsertOAuthUser(User.createOAuthUser(attribute, provider));
+        sample.stop(meterRegistry.timer("auth.oauth2.provision", "provider", provider.name().toLowerCase()));
 
         // * 기존 인증 방식과 새로운 인증 방식이 다르다면 로그를 남긴다.
         if (findUser.getProviderType() != provider) {
@@ -52,4 +69,16 @@ public class BranduOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
         return new UserPrincipal(findUser, user.getAttributes());
     }
+
+    private OAuth2User fetchUser(ProviderType provider, OAuth2UserRequest userRequest) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            OAuth2User user = userService.loadUser(userRequest);
+            outcome = "success";
+            return user;
+        } finally {
+            sample.stop(meterRegistry.timer("auth.oauth2.user-info", "provider", provider.name().toLowerCase(), "outcome", outcome));
+        }
+    }
 }
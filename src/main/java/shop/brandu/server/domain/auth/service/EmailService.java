@@ -4,65 +4,83 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
-
+import shop.brandu.server.domain.auth.entity.MailOutbox;
+import shop.brandu.server.domain.auth.entity.MailType;
+import shop.brandu.server.domain.auth.repository.MailOutboxRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메일 서비스 <br/>
+ *
+ * <p>
+ *     요청 처리 중에는 {@link MailOutbox} 행만 저장하고, 실제 메시지는 {@link MailOutboxRelay} 가 전송 직전에 만든다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : EmailService
+ * @since : 10/17/26
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
-
-    public void sendSignUpEmail(String to, String nickname, String code) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true);
-
-        helper.setSubject("BrandU 회원가입 인증 메일입니다.");
-        helper.setTo(to);
-
-
-        String confirmURI = createURI("sign-up", code, to);
-
-        Context context = new Context();
-        context.setVariable("confirmURI", confirmURI);
-        context.setVariable("nickname", nickname);
-
-        String html = templateEngine.process("mail/confirm_member_account_mail", context);
-        helper.setText(html, true);
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /**
+     * 회원가입 인증 메일 발송 예약, 호출한 트랜잭션과 함께 커밋된다.
+     *
+     * @param to       받는 사람
+     * @param nickname 닉네임
+     * @param code     인증 코드
+     */
+    public void queueSignUpEmail(String to, String nickname, String code) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("confirmURI", createURI("sign-up", code, to));
+        variables.put("nickname", nickname);
+        queue(MailType.SIGN_UP, to, variables);
+    }
 
-        sendEmail(message, to);
+    /**
+     * 비밀번호 찾기 메일 발송 예약, 호출한 트랜잭션과 함께 커밋된다.
+     *
+     * @param to   받는 사람
+     * @param code 인증 코드
+     */
+    public void queueFindPasswordEmail(String to, String code) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("code", code);
+        queue(MailType.FIND_PASSWORD, to, variables);
     }
 
-    public void sendFindPasswordEmail(String to, String code) throws MessagingException {
+    /**
+     * 발송 대기열의 메일을 {@link MimeMessage} 로 변환
+     *
+     * @param mail {@link MailOutbox}
+     * @return 전송할 메시지
+     */
+    public MimeMessage compose(MailOutbox mail) throws MessagingException {
         MimeMessage message = javaMailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
 
-        helper.setSubject("BrandU 비밀번호 찾기 메일입니다.");
-        helper.setTo(to);
-
-        Context context = new Context();
-        context.setVariable("code", code);
+        helper.setSubject(mail.getType().getSubject());
+        helper.setTo(mail.getRecipient());
 
-        String html = templateEngine.process("mail/find_member_account_mail", context);
+        String html = mailTemplateRenderer.render(mail.getType().getTemplate(), new HashMap<>(mail.getVariables()), mail.toLocale());
         helper.setText(html, true);
-
-        sendEmail(message, to);
+        return message;
     }
 
-    private void sendEmail(MimeMessage message, String to) {
-        new Thread(() -> {
-            try {
-                javaMailSender.send(message);
-                log.info("{} 으로 이메일 전송에 성공했습니다.", to);
-            } catch (Exception e) {
-                log.error("이메일 전송에 실패했습니다. 다시 시도해주세요.", e);
-            }
-        }).start();
+    private void queue(MailType type, String to, Map<String, String> variables) {
+        mailOutboxRepository.save(MailOutbox.of(type, to, LocaleContextHolder.getLocale(), variables));
     }
 
     private String createURI(String type, String code, String email) {
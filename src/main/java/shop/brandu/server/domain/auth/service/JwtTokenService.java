@@ -9,30 +9,53 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.exception.StacklessBranduException;
 import shop.brandu.server.core.properties.AuthProperties;
+import shop.brandu.server.core.properties.AuthProperties.TokenFormat;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore;
+import shop.brandu.server.domain.auth.cache.VerifiedTokenCache;
 import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Outcome;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
 import shop.brandu.server.domain.auth.entity.UserPrincipal;
-import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.auth.entity.VerifiedToken;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class JwtTokenService {
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String COMPACT_ROLES_CLAIM = "r";
+    private static final String COMPACT_FAMILY_ID_CLAIM = "f";
+    private static final int FAMILY_ID_BYTES = 12;
+    private static final int TOKEN_ID_BYTES = 9;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final AuthProperties authProperties;
     private final UserPrincipalService userPrincipalService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenFamilyStore refreshTokenFamilyStore;
+    private final AuthStageMetrics authStageMetrics;
     private Key key;
+    private JwtParser jwtParser;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(authProperties.getSecretKey());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     private Map<String, Object> createHeader() {
@@ -52,29 +75,52 @@ public class JwtTokenService {
     /**
      * 로컬 인증을 통해 토큰 생성
      *
-     * @param user {@link User}
+     * @param credential {@link Credential}
      * @return JWT 토큰
      */
-    public JwtToken generateTokenByLocal(User user) {
-        Collection<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(user.getRoleType().name()));
-        return generateToken(user.getUsername(), authorities);
+    public JwtToken generateTokenByLocal(Credential credential) {
+        Collection<GrantedAuthority> authorities = TokenAuthorities.fromNames(credential.getRoleType().name());
+        return generateToken(credential.getUsername(), authorities);
     }
 
     /**
-     * refreshToken을 통해 토큰 생성
+     * refreshToken을 통해 토큰 생성 <br/>
+     * 같은 패밀리의 토큰 아이디를 교체하며, 이미 교체된 토큰이 다시 사용되면 패밀리 전체를 폐기한다.
      *
      * @param refreshToken 리프레시 토큰
      * @return JWT 토큰
      */
     public JwtToken generateTokenByRefreshToken(String refreshToken) throws Exception {
-        boolean isValidated = validateToken(refreshToken);
-        if (isValidated) {
-            Claims claims = parseClaims(refreshToken);
-            String username = claims.getSubject();
-            Collection<? extends GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(claims.get("authorities").toString()));
-            return generateToken(username, authorities);
+        Claims claims = parseClaims(refreshToken);
+        String familyId = familyId(claims);
+        String tokenId = claims.getId();
+        if (familyId == null || tokenId == null) {
+            throw new StacklessBranduException(ErrorCode.INVALID_TOKEN, "유효하지 않은 토큰입니다.");
+        }
+
+        String nextTokenId = newId(TOKEN_ID_BYTES);
+        return switch (refreshTokenFamilyStore.rotate(familyId, tokenId, nextTokenId)) {
+            case ROTATED -> createToken(claims.getSubject(), authorities(claims), familyId, nextTokenId);
+            case REUSED -> {
+                log.warn("이미 사용된 리프레시 토큰이 재사용되어 토큰 패밀리를 폐기했습니다. username: {}, fid: {}", claims.getSubject(), familyId);
+                throw new StacklessBranduException(ErrorCode.INVALID_TOKEN, "이미 사용된 토큰입니다. 다시 로그인해주세요.");
+            }
+            case REVOKED -> throw new StacklessBranduException(ErrorCode.INVALID_TOKEN, "만료되었거나 폐기된 토큰입니다. 다시 로그인해주세요.");
+        };
+    }
+
+    /**
+     * refreshToken 이 속한 토큰 패밀리 폐기, 이미 유효하지 않은 토큰이면 무시한다.
+     *
+     * @param refreshToken 리프레시 토큰
+     */
+    public void revokeRefreshFamily(String refreshToken) {
+        try {
+            String familyId = familyId(parseClaims(refreshToken));
+            if (familyId != null) refreshTokenFamilyStore.revoke(familyId);
+        } catch (Exception e) {
+            log.debug("토큰 패밀리를 폐기하지 못했습니다: {}", e.getMessage());
         }
-        throw new Exception("유효하지 않은 토큰입니다.");
     }
 
     /**
@@ -89,26 +135,41 @@ public class JwtTokenService {
     }
 
     /**
-     * 토큰 생성
+     * 토큰 생성, 새 리프레시 토큰 패밀리를 시작한다.
      *
      * @param username    사용자 이름
      * @param authorities 권한
      * @return JWT 토큰
      */
-    private JwtToken generateToken(String username, Collection<? extends GrantedAuthority> authorities) {
-        String authority = authorities.stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+    JwtToken generateToken(String username, Collection<? extends GrantedAuthority> authorities) {
+        String familyId = newId(FAMILY_ID_BYTES);
+        String tokenId = newId(TOKEN_ID_BYTES);
+        refreshTokenFamilyStore.start(familyId, tokenId);
+        return createToken(username, authorities, familyId, tokenId);
+    }
+
+    private JwtToken createToken(String username, Collection<? extends GrantedAuthority> authorities, String familyId, String tokenId) {
+        return authStageMetrics.record(Stage.TOKEN_SIGN, () -> signToken(username, authorities, familyId, tokenId));
+    }
 
+    private JwtToken signToken(String username, Collection<? extends GrantedAuthority> authorities, String familyId, String tokenId) {
         long now = System.currentTimeMillis();
 
         Date accessTokenExpire = new Date(now + authProperties.getTokenExpiry());
         Date refreshTokenExpire = new Date(now + authProperties.getRefreshTokenExpiry());
 
+        if (authProperties.getTokenFormat() == TokenFormat.COMPACT) {
+            // * RoleType 으로 표현할 수 없는 권한이 있으면 standard 형식으로 발급한다.
+            Integer roles = TokenAuthorities.toMask(authorities);
+            if (roles != null) return createCompactToken(username, roles, familyId, tokenId, accessTokenExpire, refreshTokenExpire);
+        }
+
+        String authority = TokenAuthorities.toNames(authorities);
         String accessToken = Jwts.builder()
                 .setHeader(createHeader())
                 .setSubject(username)
-                .claim("authorities", authority)
+                .claim(AUTHORITIES_CLAIM, authority)
+                .claim(FAMILY_ID_CLAIM, familyId)
                 .setIssuedAt(new Date(now))
                 .setExpiration(accessTokenExpire)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -116,7 +177,9 @@ public class JwtTokenService {
 
         String refreshToken = Jwts.builder()
                 .setSubject(username)
-                .claim("authorities", authority)
+                .setId(tokenId)
+                .claim(AUTHORITIES_CLAIM, authority)
+                .claim(FAMILY_ID_CLAIM, familyId)
                 .setIssuedAt(new Date(now))
                 .setExpiration(refreshTokenExpire)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -125,6 +188,33 @@ public class JwtTokenService {
         return new JwtToken(accessToken, refreshToken);
     }
 
+    /**
+     * compact 형식 토큰 생성 <br/>
+     * 짧은 클레임 이름과 {@link TokenAuthorities} 비트 마스크를 사용하고, 헤더는 서명 알고리즘만 남긴다.
+     * 리프레시 토큰에는 재발급에 필요한 주체, 토큰 아이디, 패밀리, 권한, 만료 시각만 담는다.
+     * 형식을 바꾸는 동안 이미 발급된 토큰도 쓸 수 있도록 파싱은 두 형식을 모두 받는다.
+     */
+    private JwtToken createCompactToken(String username, int roles, String familyId, String tokenId, Date accessTokenExpire, Date refreshTokenExpire) {
+        String accessToken = Jwts.builder()
+                .setSubject(username)
+                .claim(COMPACT_ROLES_CLAIM, roles)
+                .claim(COMPACT_FAMILY_ID_CLAIM, familyId)
+                .setExpiration(accessTokenExpire)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        String refreshToken = Jwts.builder()
+                .setSubject(username)
+                .setId(tokenId)
+                .claim(COMPACT_ROLES_CLAIM, roles)
+                .claim(COMPACT_FAMILY_ID_CLAIM, familyId)
+                .setExpiration(refreshTokenExpire)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        return new JwtToken(accessToken, refreshToken);
+    }
+
 
     /**
      * accessToken을 파싱하여 Authentication 객체를 반환
@@ -133,15 +223,7 @@ public class JwtTokenService {
      * @return 인증된 Authentication 객체
      */
     public Authentication parseAuthentication(String accessToken) throws Exception {
-        Claims claims = parseClaims(accessToken);
-
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("authorities").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
-        UserDetails principal = new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+        return verify(accessToken).getAuthentication();
     }
 
     /**
@@ -151,7 +233,17 @@ public class JwtTokenService {
      * @return 유효한 토큰이면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String accessToken) throws Exception {
-        return parseClaims(accessToken) != null;
+        return verify(accessToken) != null;
+    }
+
+    /**
+     * 토큰 검증, 검증 결과는 캐시된다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken verifyToken(String token) throws Exception {
+        return verify(token);
     }
 
     /**
@@ -160,14 +252,68 @@ public class JwtTokenService {
      * @param accessToken JWT 토큰
      * @return 토큰의 클레임
      */
-    private Claims parseClaims(String accessToken) throws Exception {
+    Claims parseClaims(String accessToken) throws Exception {
+        return verify(accessToken).getClaims();
+    }
+
+    /**
+     * 토큰 검증 <br/>
+     * 이미 검증된 토큰이라면 캐시된 결과를 반환하고, 그렇지 않다면 서명을 검증한 뒤 캐시에 저장한다.
+     * 소요 시간은 {@link Stage#TOKEN_VERIFY} 로 기록한다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     */
+    private VerifiedToken verify(String token) throws Exception {
+        long startedAt = authStageMetrics.start();
+        if (StringUtils.hasText(token)) {
+            VerifiedToken cached = verifiedTokenCache.getIfPresent(token);
+            if (cached != null) {
+                authStageMetrics.stop(Stage.TOKEN_VERIFY, Outcome.CACHED, startedAt);
+                return cached;
+            }
+        }
+
+        try {
+            Claims claims = parseSignedClaims(token);
+            VerifiedToken verified = VerifiedToken.of(claims, createAuthentication(claims));
+            verifiedTokenCache.put(token, verified);
+            authStageMetrics.stop(Stage.TOKEN_VERIFY, Outcome.SUCCESS, startedAt);
+            return verified;
+        } catch (Exception e) {
+            authStageMetrics.stop(Stage.TOKEN_VERIFY, Outcome.FAILURE, startedAt);
+            throw e;
+        }
+    }
+
+    private static String newId(int bytes) {
+        byte[] id = new byte[bytes];
+        RANDOM.nextBytes(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+    }
+
+    static String familyId(Claims claims) {
+        String familyId = claims.get(COMPACT_FAMILY_ID_CLAIM, String.class);
+        return familyId != null ? familyId : claims.get(FAMILY_ID_CLAIM, String.class);
+    }
+
+    private static List<GrantedAuthority> authorities(Claims claims) {
+        Integer roles = claims.get(COMPACT_ROLES_CLAIM, Integer.class);
+        if (roles != null) return TokenAuthorities.fromMask(roles);
+        return TokenAuthorities.fromNames(claims.get(AUTHORITIES_CLAIM).toString());
+    }
+
+    private Authentication createAuthentication(Claims claims) {
+        List<GrantedAuthority> authorities = authorities(claims);
+
+        UserDetails principal = new org.springframework.security.core.userdetails.User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    private Claims parseSignedClaims(String token) throws Exception {
         String message;
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             message = "유효기간이 만료된 토큰입니다.";
         } catch (MalformedJwtException e) {
@@ -177,6 +323,6 @@ public class JwtTokenService {
         } catch (Exception e) {
             message = "토큰 파싱 중 에러가 발생했습니다.";
         }
-        throw new Exception(message);
+        throw new StacklessBranduException(ErrorCode.INVALID_TOKEN, message);
     }
 }
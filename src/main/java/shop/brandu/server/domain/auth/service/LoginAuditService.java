@@ -0,0 +1,218 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.LoginAuditProperties;
+import shop.brandu.server.core.properties.LoginAuditProperties.OverflowPolicy;
+import shop.brandu.server.domain.auth.dto.AuthData.LoginHistory;
+import shop.brandu.server.domain.auth.entity.LoginEvent;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+import shop.brandu.server.domain.auth.repository.LoginEventRepository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 감사 기록 서비스 <br/>
+ *
+ * <p>
+ *     로그인, 토큰 재발급, 로그아웃, OAuth2 로그인을 요청 스레드에서 {@link LoginEventBuffer} 에 넣기만 하고,
+ *     {@code login-audit} 소비 스레드 하나가 최대 {@code batchSize} 건씩 꺼내 여러 행 INSERT 한 번으로 저장한다.
+ *     꺼낸 건수가 {@code batchSize} 보다 적을 때만 {@code flushInterval} 만큼 쉬므로, 부하가 높을수록 배치가 커진다.
+ *     버퍼가 가득 차면 {@code overflowPolicy} 에 따라 바로 버리거나 잠시 기다린 뒤 버리며, 요청을 실패시키지는 않는다.
+ *     버린 건수와 저장하지 못한 건수는 {@code auth.login-audit.events} 메트릭의 {@code result} 태그로 확인한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginAuditService
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LoginAuditService {
+    private static final String METRIC = "auth.login-audit.events";
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+
+    private final LoginEventRepository loginEventRepository;
+    private final LoginAuditProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private LoginEventBuffer buffer;
+    private Thread consumer;
+    private volatile boolean running;
+
+    private Counter acceptedCounter;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Timer flushTimer;
+    private DistributionSummary batchSummary;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) return;
+        buffer = new LoginEventBuffer(properties.getBufferSize());
+
+        acceptedCounter = Counter.builder(METRIC).description("로그인 감사 기록 수").tag("result", "accepted").register(meterRegistry);
+        droppedCounter = Counter.builder(METRIC).description("로그인 감사 기록 수").tag("result", "dropped").register(meterRegistry);
+        failedCounter = Counter.builder(METRIC).description("로그인 감사 기록 수").tag("result", "failed").register(meterRegistry);
+        flushTimer = Timer.builder("auth.login-audit.flush").description("로그인 감사 기록 INSERT 한 번에 걸린 시간").register(meterRegistry);
+        batchSummary = DistributionSummary.builder("auth.login-audit.batch.size").description("INSERT 한 번에 저장한 기록 수").register(meterRegistry);
+        Gauge.builder("auth.login-audit.buffer.size", buffer, LoginEventBuffer::size).description("저장을 기다리는 기록 수").register(meterRegistry);
+
+        running = true;
+        consumer = new Thread(this::consume, "login-audit");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * 소비 스레드를 깨워 버퍼에 남은 기록을 저장할 때까지 기다린다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (consumer == null) return;
+        LockSupport.unpark(consumer);
+        consumer.join(properties.getShutdownTimeout().toMillis());
+        if (consumer.isAlive()) {
+            log.warn("로그인 감사 기록 종료 시간이 초과되었습니다. 남은 기록: {}", buffer.size());
+            consumer.interrupt();
+        }
+    }
+
+    /**
+     * 현재 요청의 IP 와 User-Agent 로 기록한다. 요청 밖에서 호출하면 두 값은 비어 있다.
+     *
+     * @param type     기록 종류
+     * @param username 사용자 아이디, null 이면 기록하지 않는다.
+     * @param success  성공 여부
+     */
+    public void publish(LoginEventType type, String username, boolean success) {
+        publish(type, username, success, currentRequest());
+    }
+
+    /**
+     * 기록 추가, 저장은 소비 스레드가 나중에 한다.
+     *
+     * @param type     기록 종류
+     * @param username 사용자 아이디, null 이면 기록하지 않는다.
+     * @param success  성공 여부
+     * @param request  IP 와 User-Agent 를 읽을 요청
+     */
+    public void publish(LoginEventType type, String username, boolean success, HttpServletRequest request) {
+        if (buffer == null || username == null) return;
+
+        String ipAddress = request != null ? truncate(request.getRemoteAddr(), LoginEvent.IP_ADDRESS_LENGTH) : null;
+        String userAgent = request != null ? truncate(request.getHeader(HttpHeaders.USER_AGENT), LoginEvent.USER_AGENT_LENGTH) : null;
+        if (offer(type, success, truncate(username, LoginEvent.USERNAME_LENGTH), ipAddress, userAgent, System.currentTimeMillis())) {
+            acceptedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 버퍼에서 최대 {@code batchSize} 건을 꺼내 저장한다. 소비 스레드가 호출하며, 종료 시와 테스트에서도 사용한다.
+     *
+     * @return 꺼낸 기록 수
+     */
+    public synchronized int flush() {
+        if (buffer == null) return 0;
+        List<LoginEvent> batch = new ArrayList<>(Math.min(buffer.size(), properties.getBatchSize()));
+        buffer.drain(properties.getBatchSize(), slot -> batch.add(LoginEvent.of(
+                slot.getType(),
+                slot.isSuccess(),
+                slot.getUsername(),
+                slot.getIpAddress(),
+                slot.getUserAgent(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(slot.getOccurredAt()), ZoneId.systemDefault())
+        )));
+        if (batch.isEmpty()) return 0;
+
+        try {
+            flushTimer.record(() -> {
+                loginEventRepository.insertAll(batch);
+            });
+            batchSummary.record(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("로그인 감사 기록 {} 건을 저장하지 못했습니다.", batch.size(), e);
+        }
+        return batch.size();
+    }
+
+    /**
+     * 사용자의 최근 로그인 감사 기록 조회, 아직 버퍼에 있는 기록은 포함되지 않는다.
+     *
+     * @param username 사용자 아이디
+     * @param size     조회 건수
+     * @return 최근 기록부터 정렬된 {@link LoginHistory} 목록
+     */
+    public List<LoginHistory> recentEvents(String username, int size) {
+        if (size < 1 || size > properties.getMaxQuerySize()) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, "조회 건수는 1 이상 " + properties.getMaxQuerySize() + " 이하여야 합니다.");
+        }
+        return loginEventRepository.findByUsernameOrderByOccurredAtDescIdDesc(username, PageRequest.of(0, size)).stream()
+                .map(LoginHistory::from)
+                .toList();
+    }
+
+    private boolean offer(LoginEventType type, boolean success, String username, String ipAddress, String userAgent, long occurredAt) {
+        if (buffer.offer(type, success, username, ipAddress, userAgent, occurredAt)) return true;
+
+        // * 소비 스레드가 쉬는 중이라면 바로 비우도록 깨운다.
+        LockSupport.unpark(consumer);
+        if (properties.getOverflowPolicy() != OverflowPolicy.BLOCK) return false;
+
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(type, success, username, ipAddress, userAgent, occurredAt)) return true;
+        }
+        return false;
+    }
+
+    private void consume() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            try {
+                if (flush() < properties.getBatchSize()) LockSupport.parkNanos(flushIntervalNanos);
+            } catch (Exception e) {
+                log.error("로그인 감사 기록 저장 중 예상하지 못한 오류가 발생했습니다.", e);
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        }
+        // * 종료 전에 남은 기록을 모두 저장한다.
+        while (!Thread.currentThread().isInterrupted()) {
+            if (flush() == 0) return;
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes ? attributes.getRequest() : null;
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+}
@@ -0,0 +1,127 @@
+package shop.brandu.server.domain.auth.service;
+
+import lombok.Getter;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 로그인 감사 기록 링 버퍼 <br/>
+ *
+ * <p>
+ *     여러 요청 스레드가 넣고 한 소비 스레드만 꺼내는 고정 크기 버퍼다. 슬롯은 미리 만들어 두고 값만 덮어쓰므로 넣을 때 객체를 만들지 않는다.
+ *     슬롯마다 순번을 두어, 넣는 쪽은 {@code tail} 을 CAS 로 한 칸 차지한 뒤 값을 쓰고 순번을 올려 꺼낼 수 있음을 알린다.
+ *     꺼내는 쪽은 순번을 확인하고 읽은 뒤 한 바퀴 뒤의 순번으로 바꿔 다시 쓸 수 있게 한다. 잠금이 없고, 가득 차면 기다리지 않고 실패한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginEventBuffer
+ * @since : 10/17/26
+ */
+final class LoginEventBuffer {
+    private final Slot[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // * 소비 스레드만 변경한다. 크기 조회용으로만 volatile 이다.
+    private volatile long head;
+
+    LoginEventBuffer(int capacity) {
+        // * 슬롯이 하나면 채워진 슬롯의 순번이 다음 위치와 같아져 꺼내지 않은 기록을 덮어쓰므로 최소 두 칸을 둔다.
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new Slot[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 기록 추가
+     *
+     * @return 버퍼가 가득 차 넣지 못했다면 false
+     */
+    boolean offer(LoginEventType type, boolean success, String username, String ipAddress, String userAgent, long occurredAt) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long distance = sequences.get(index) - position;
+            if (distance == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index].set(type, success, username, ipAddress, userAgent, occurredAt);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (distance < 0) {
+                // * 한 바퀴 전의 기록을 아직 꺼내지 않았다.
+                return false;
+            } else {
+                // * 다른 스레드가 먼저 차지했다.
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 {@code max} 건을 꺼내 넘긴다. 슬롯은 넘긴 뒤 다시 쓰이므로 {@code sink} 는 값을 복사해야 한다. <br/>
+     * 한 번에 한 스레드만 호출해야 한다.
+     *
+     * @param max  최대 건수
+     * @param sink 기록마다 호출되는 소비자
+     * @return 꺼낸 건수
+     */
+    int drain(int max, Consumer<Slot> sink) {
+        long position = head;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) break;
+
+            Slot slot = slots[index];
+            sink.accept(slot);
+            slot.clear();
+            sequences.lazySet(index, position + slots.length);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    @Getter
+    static final class Slot {
+        private LoginEventType type;
+        private boolean success;
+        private String username;
+        private String ipAddress;
+        private String userAgent;
+        private long occurredAt;
+
+        private void set(LoginEventType type, boolean success, String username, String ipAddress, String userAgent, long occurredAt) {
+            this.type = type;
+            this.success = success;
+            this.username = username;
+            this.ipAddress = ipAddress;
+            this.userAgent = userAgent;
+            this.occurredAt = occurredAt;
+        }
+
+        private void clear() {
+            set(null, false, null, null, null, 0L);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.exception.StacklessBranduException;
+import shop.brandu.server.core.properties.LoginLockoutProperties;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker.Failure;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker.Source;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker.Status;
+import shop.brandu.server.domain.user.cache.UserEntityCache;
+import shop.brandu.server.domain.user.cache.UserSnapshotCache;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 잠금 서비스 <br/>
+ *
+ * <p>
+ *     로그인은 지연 확인 → 인증 정보 조회 → 잠금 확인 → 비밀번호 해싱 순서로 진행되므로, 지연되거나 잠긴 계정은 해싱 비용을 쓰지 않는다.
+ *     비밀번호가 틀리면 {@link LoginFailureTracker} 에 기록해 점점 길게 지연시키고, {@code lockThreshold} 를 설정했다면 그 횟수에 이르면 계정을 잠근다.
+ *     잠금은 {@link #unlock(String)} 으로만 풀리므로 기본 설정은 지연만 적용한다.
+ *     없는 아이디도 같은 방식으로 기록하고 지연시켜, 지연 응답만으로는 가입 여부를 구분할 수 없다.
+ *     로그인 트랜잭션은 읽기 전용이고 실패로 롤백되므로, 잠금은 별도의 트랜잭션으로 커밋한다.
+ * </p>
+ * <p>
+ *     지연과 잠금 건수는 {@code auth.lockout.events} 메트릭의 {@code type} 태그로, 거절한 로그인은 {@code auth.lockout.rejections}
+ *     메트릭의 {@code source} 태그로 확인한다. 분당 건수는 {@code rate(auth_lockout_events_total[1m]) * 60} 으로 본다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : LoginLockoutService
+ * @since : 10/17/26
+ */
+@Slf4j
+@Service
+public class LoginLockoutService {
+    private final LoginFailureTracker loginFailureTracker;
+    private final UserRepository userRepository;
+    private final UserEntityCache userEntityCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final RecentWriteTracker recentWriteTracker;
+    private final LoginLockoutProperties properties;
+    private final TransactionTemplate lockTransaction;
+
+    private final Counter throttledCounter;
+    private final Counter lockedCounter;
+    private final Counter localRejectionCounter;
+    private final Counter redisRejectionCounter;
+    private final Counter lockedRejectionCounter;
+
+    public LoginLockoutService(
+            LoginFailureTracker loginFailureTracker,
+            UserRepository userRepository,
+            UserEntityCache userEntityCache,
+            UserSnapshotCache userSnapshotCache,
+            RecentWriteTracker recentWriteTracker,
+            LoginLockoutProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.loginFailureTracker = loginFailureTracker;
+        this.userRepository = userRepository;
+        this.userEntityCache = userEntityCache;
+        this.userSnapshotCache = userSnapshotCache;
+        this.recentWriteTracker = recentWriteTracker;
+        this.properties = properties;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.throttledCounter = eventCounter(meterRegistry, "throttled");
+        this.lockedCounter = eventCounter(meterRegistry, "locked");
+        this.localRejectionCounter = rejectionCounter(meterRegistry, Source.LOCAL.getTag());
+        this.redisRejectionCounter = rejectionCounter(meterRegistry, Source.REDIS.getTag());
+        this.lockedRejectionCounter = rejectionCounter(meterRegistry, "database");
+
+        Duration throttled = throttledBeforeLock(properties);
+        if (properties.isEnabled() && properties.getLockThreshold() > 0 && throttled.compareTo(properties.getWindow()) >= 0) {
+            log.warn("잠금 전까지의 로그인 지연({}초)이 윈도우({}초)보다 길어 계정이 잠기지 않습니다. auth.lockout.lock-threshold 를 낮춰주세요.",
+                    throttled.toSeconds(), properties.getWindow().toSeconds());
+        }
+    }
+
+    /**
+     * 잠금 기준에 이를 때까지 기다려야 하는 로그인 지연 시간의 합, 윈도우보다 짧아야 잠금에 닿는다.
+     *
+     * @param properties {@link LoginLockoutProperties}
+     * @return {@code throttleThreshold} 번째부터 {@code lockThreshold - 1} 번째 실패까지의 지연 시간 합
+     */
+    static Duration throttledBeforeLock(LoginLockoutProperties properties) {
+        Duration total = Duration.ZERO;
+        int threshold = Math.max(1, properties.getThrottleThreshold());
+        for (int failures = threshold; failures < properties.getLockThreshold(); failures++) {
+            Duration delay = properties.getThrottleDelay().multipliedBy(1L << Math.min(failures - threshold, 30));
+            total = total.plus(delay.compareTo(properties.getMaxThrottleDelay()) > 0 ? properties.getMaxThrottleDelay() : delay);
+        }
+        return total;
+    }
+
+    /**
+     * 로그인 지연 확인, 지연 중이라면 예외를 던진다. 인증 정보를 조회하기 전에 호출한다.
+     *
+     * @param username 사용자 아이디
+     * @return 윈도우 안에 실패 기록이 있다면 true, 로그인에 성공하면 {@link #reset(String)} 으로 지운다.
+     */
+    public boolean check(String username) {
+        if (!properties.isEnabled()) return false;
+
+        Status status = loginFailureTracker.check(username);
+        if (status.isThrottled()) {
+            (status.getSource() == Source.LOCAL ? localRejectionCounter : redisRejectionCounter).increment();
+            throw new StacklessBranduException(
+                    ErrorCode.USER_SIGN_IN_THROTTLED,
+                    ErrorCode.USER_SIGN_IN_THROTTLED.getMessage() + " (" + status.getRetryAfterSeconds() + "초 후)",
+                    status.getRetryAfterSeconds()
+            );
+        }
+        return status.isFailed();
+    }
+
+    /**
+     * 계정 잠금 확인, 비밀번호를 검사하기 전에 호출한다.
+     *
+     * @param credential {@link Credential}
+     */
+    public void checkLocked(Credential credential) {
+        if (credential.isLocked()) {
+            lockedRejectionCounter.increment();
+            throw new StacklessBranduException(ErrorCode.USER_LOCKED);
+        }
+    }
+
+    /**
+     * 비밀번호가 틀린 로그인 기록, {@code lockThreshold} 가 0 보다 크고 그 횟수에 이르면 계정을 잠근다.
+     *
+     * @param credential {@link Credential}
+     */
+    public void recordFailure(Credential credential) {
+        if (!properties.isEnabled()) return;
+
+        Failure failure = loginFailureTracker.record(credential.getUsername());
+        if (failure == null) return;
+        if (properties.getLockThreshold() > 0 && failure.getFailures() >= properties.getLockThreshold()) {
+            lock(credential);
+        } else if (failure.isThrottled()) {
+            throttledCounter.increment();
+        }
+    }
+
+    /**
+     * 존재하지 않는 아이디의 로그인 실패 기록, 잠글 계정은 없지만 있는 계정과 똑같이 지연시켜 지연 여부로 가입된 아이디를 알아낼 수 없게 한다.
+     *
+     * @param username 사용자 아이디
+     */
+    public void recordFailure(String username) {
+        if (!properties.isEnabled()) return;
+
+        Failure failure = loginFailureTracker.record(username);
+        if (failure != null && failure.isThrottled()) {
+            throttledCounter.increment();
+        }
+    }
+
+    /**
+     * 로그인에 성공한 계정의 실패 기록 삭제
+     *
+     * @param username 사용자 아이디
+     */
+    public void reset(String username) {
+        loginFailureTracker.reset(username);
+    }
+
+    /**
+     * 계정 잠금 해제, 실패 기록과 로그인 지연도 함께 지운다.
+     *
+     * @param username 사용자 아이디
+     */
+    @Transactional
+    public void unlock(String username) {
+        Credential credential = userRepository.findCredentialByUsername(username)
+                .orElseThrow(() -> new BranduException(ErrorCode.USER_NOT_FOUND));
+        if (userRepository.updateLocked(credential.getId(), false) > 0) {
+            evict(credential);
+            log.info("계정 잠금을 해제했습니다. username: {}", username);
+        }
+        loginFailureTracker.clear(username);
+    }
+
+    private void lock(Credential credential) {
+        try {
+            Boolean locked = lockTransaction.execute(status -> {
+                if (userRepository.updateLocked(credential.getId(), true) == 0) return false;
+                evict(credential);
+                return true;
+            });
+            if (Boolean.TRUE.equals(locked)) {
+                lockedCounter.increment();
+                log.warn("로그인 실패 횟수를 초과해 계정을 잠갔습니다. username: {}", credential.getUsername());
+            }
+        } catch (RuntimeException e) {
+            log.error("계정을 잠그지 못했습니다. username: {}", credential.getUsername(), e);
+        }
+    }
+
+    private void evict(Credential credential) {
+        recentWriteTracker.markWritten(credential.getUsername());
+        userEntityCache.evict(credential.getId());
+        userSnapshotCache.evict(credential.getUsername());
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("auth.lockout.events")
+                .description("로그인 실패로 지연하거나 잠근 횟수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("auth.lockout.rejections")
+                .description("지연되거나 잠긴 계정이라 비밀번호를 검사하지 않고 거절한 로그인 수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,216 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.core.properties.MailOutboxProperties;
+import shop.brandu.server.domain.auth.entity.MailOutbox;
+import shop.brandu.server.domain.auth.repository.MailOutboxRepository;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Outcome;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송 대기열 릴레이 <br/>
+ *
+ * <p>
+ *     각 워커는 한 트랜잭션에서 {@link MailOutboxRepository#claim} 으로 최대 {@code batchSize} 건을 잠그고,
+ *     {@link JavaMailSender#send(MimeMessage...)} 한 번으로 전송한 뒤 보낸 행을 지운다. (하나의 SMTP 연결 재사용)
+ *     다른 노드가 잠근 행은 건너뛰므로 여러 노드가 대기열을 나눠 처리하며, 가져온 행이 {@code batchSize} 보다 적을 때만 쉰다.
+ *     일시적인 실패는 지수 백오프로 {@code availableAt} 을 미뤄 다시 시도한다.
+ *     전송 후 커밋 전에 종료되면 같은 메일이 한 번 더 나갈 수 있다. (최소 한 번 전송)
+ *     대기열에 저장된 뒤 전송되기까지의 지연은 {@code mail.outbox.lag}, 배치 크기는 {@code mail.outbox.batch.size} 메트릭으로 노출된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : MailOutboxRelay
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MailOutboxRelay {
+    private final MailOutboxRepository mailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender javaMailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final MailOutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AuthStageMetrics authStageMetrics;
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private Timer lagTimer;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Counter retryCounter;
+    private DistributionSummary batchSummary;
+
+    @PostConstruct
+    public void start() {
+        lagTimer = Timer.builder("mail.outbox.lag").description("대기열에 저장된 뒤 전송되기까지 걸린 시간").register(meterRegistry);
+        sentCounter = Counter.builder("mail.outbox.sent").description("전송한 메일 수").register(meterRegistry);
+        failedCounter = Counter.builder("mail.outbox.failed").description("최종적으로 전송에 실패한 메일 수").register(meterRegistry);
+        retryCounter = Counter.builder("mail.outbox.retries").description("재시도로 미룬 메일 수").register(meterRegistry);
+        batchSummary = DistributionSummary.builder("mail.outbox.batch.size").description("트랜잭션 하나에서 가져온 메일 수").register(meterRegistry);
+
+        if (properties.getWorkers() <= 0) return;
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * 진행 중인 배치를 마칠 때까지 기다린다. 남은 행은 다음에 실행되는 노드가 전송한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workers == null) return;
+        workers.shutdown();
+        if (!workers.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("메일 발송 대기열 릴레이 종료 시간이 초과되었습니다.");
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 전송할 메일을 한 배치 가져와 전송
+     *
+     * @return 가져온 메일 수
+     */
+    public int relay() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MailOutbox> batch = mailOutboxRepository.claim(now, PageRequest.of(0, properties.getBatchSize()));
+            if (batch.isEmpty()) return 0;
+
+            batchSummary.record(batch.size());
+            send(batch, now);
+            return batch.size();
+        });
+        return claimed == null ? 0 : claimed;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (relay() < properties.getBatchSize()) Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 대기열 릴레이에서 예상하지 못한 오류가 발생했습니다.", e);
+                try {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void send(List<MailOutbox> batch, LocalDateTime now) {
+        List<MailOutbox> finished = new ArrayList<>(batch.size());
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>();
+        for (MailOutbox mail : batch) {
+            try {
+                messages.put(emailService.compose(mail), mail);
+            } catch (Exception e) {
+                failedCounter.increment();
+                finished.add(mail);
+                log.error("이메일을 만들지 못해 전송하지 않습니다. id: {}, type: {}", mail.getId(), mail.getType(), e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            long startedAt = authStageMetrics.start();
+            try {
+                javaMailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+                authStageMetrics.stop(Stage.EMAIL_SEND, Outcome.SUCCESS, startedAt);
+                messages.values().forEach(mail -> sent(mail, finished));
+                log.info("{} 건의 이메일 전송에 성공했습니다.", messages.size());
+            } catch (MailException e) {
+                authStageMetrics.stop(Stage.EMAIL_SEND, Outcome.FAILURE, startedAt);
+                Set<MailOutbox> failed = failedMails(e, messages);
+                for (MailOutbox mail : messages.values()) {
+                    if (!failed.contains(mail)) {
+                        sent(mail, finished);
+                    } else if (isTransient(e) && mail.getAttempts() + 1 < properties.getMaxAttempts()) {
+                        mail.retryAt(now.plus(backoff(mail.getAttempts())));
+                        retryCounter.increment();
+                    } else {
+                        failedCounter.increment();
+                        finished.add(mail);
+                    }
+                }
+                log.warn("이메일 {} 건 전송에 실패했습니다.", failed.size(), e);
+            }
+        }
+
+        if (!finished.isEmpty()) mailOutboxRepository.deleteAllInBatch(finished);
+    }
+
+    private void sent(MailOutbox mail, List<MailOutbox> finished) {
+        sentCounter.increment();
+        lagTimer.record(Duration.between(mail.getCreatedAt(), LocalDateTime.now()));
+        finished.add(mail);
+    }
+
+    /**
+     * 일부 메시지만 실패한 경우 실패한 메시지만 재시도 대상으로 남긴다.
+     */
+    private Set<MailOutbox> failedMails(MailException exception, Map<MimeMessage, MailOutbox> messages) {
+        Set<MailOutbox> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (exception instanceof MailSendException sendException) {
+            for (Object message : sendException.getFailedMessages().keySet()) {
+                MailOutbox mail = messages.get(message);
+                if (mail != null) failed.add(mail);
+            }
+        }
+        if (failed.isEmpty()) failed.addAll(messages.values());
+        return failed;
+    }
+
+    private boolean isTransient(MailException exception) {
+        return !(exception instanceof MailAuthenticationException
+                || exception instanceof MailParseException
+                || exception instanceof MailPreparationException);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(properties.getMaxBackoff()) <= 0 ? backoff : properties.getMaxBackoff();
+    }
+}
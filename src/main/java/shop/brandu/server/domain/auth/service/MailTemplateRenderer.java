@@ -0,0 +1,179 @@
+package shop.brandu.server.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.unbescape.html.HtmlEscape;
+import shop.brandu.server.domain.auth.entity.MailType;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메일 템플릿 렌더러 <br/>
+ *
+ * <p>
+ *     템플릿을 언어별로 한 번만 Thymeleaf 로 렌더링하여 고정된 HTML 조각과 변수 자리로 나눠 두고,
+ *     이후에는 변수 값을 이스케이프하여 끼워 넣기만 한다.
+ *     로케일은 요청의 Accept-Language 에서 오므로 지역과 변형은 버리고 언어만 키로 쓰며, 보관하는 템플릿 수도 {@code MAXIMUM_COMPILED} 개로 제한한다.
+ *     표식 값이 그대로 출력되지 않거나 샘플 렌더링 결과가 Thymeleaf 와 다르면 해당 템플릿은 매번 전체 렌더링한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : MailTemplateRenderer
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MailTemplateRenderer {
+    public static final String SIGN_UP_TEMPLATE = MailType.SIGN_UP.getTemplate();
+    public static final String FIND_PASSWORD_TEMPLATE = MailType.FIND_PASSWORD.getTemplate();
+
+    private static final Map<String, List<String>> TEMPLATE_SLOTS = Map.of(
+            SIGN_UP_TEMPLATE, List.of("nickname", "confirmURI"),
+            FIND_PASSWORD_TEMPLATE, List.of("code")
+    );
+    private static final String SAMPLE_VALUE = "sample&<>\"'/?a=1&b=2";
+    private static final long MAXIMUM_COMPILED = 64;
+
+    private final SpringTemplateEngine templateEngine;
+    private final AuthStageMetrics authStageMetrics;
+    private final Cache<String, Optional<CompiledTemplate>> compiledTemplates = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_COMPILED)
+            .build();
+
+    @PostConstruct
+    public void precompile() {
+        TEMPLATE_SLOTS.keySet().forEach(template -> compiled(template, Locale.getDefault()));
+    }
+
+    /**
+     * 템플릿 렌더링
+     *
+     * @param template  템플릿 이름
+     * @param variables 템플릿 변수
+     * @param locale    로케일
+     * @return 렌더링된 HTML
+     */
+    public String render(String template, Map<String, Object> variables, Locale locale) {
+        return authStageMetrics.record(Stage.EMAIL_RENDER, () -> compiled(template, locale)
+                .map(compiled -> compiled.render(variables))
+                .orElseGet(() -> process(template, variables, locale)));
+    }
+
+    /**
+     * 해당 템플릿이 사전 렌더링 되었는지 여부
+     */
+    public boolean isCompiled(String template, Locale locale) {
+        return compiled(template, locale).isPresent();
+    }
+
+    /**
+     * 보관 중인 사전 렌더링 템플릿 수
+     */
+    long compiledCount() {
+        compiledTemplates.cleanUp();
+        return compiledTemplates.estimatedSize();
+    }
+
+    private Optional<CompiledTemplate> compiled(String template, Locale locale) {
+        Locale language = new Locale(locale.getLanguage());
+        return compiledTemplates.get(template + "|" + language.toLanguageTag(), key -> compile(template, language));
+    }
+
+    private Optional<CompiledTemplate> compile(String template, Locale locale) {
+        List<String> slots = TEMPLATE_SLOTS.get(template);
+        if (slots == null) return Optional.empty();
+
+        try {
+            Map<String, Object> markers = new LinkedHashMap<>();
+            String nonce = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            for (int i = 0; i < slots.size(); i++) {
+                markers.put(slots.get(i), "BRANDUSLOT" + i + "Z" + nonce + "Z");
+            }
+
+            CompiledTemplate candidate = split(process(template, markers, locale), markers);
+            if (candidate == null) {
+                log.warn("메일 템플릿 '{}' 의 변수 위치를 찾을 수 없어 매번 전체 렌더링합니다.", template);
+                return Optional.empty();
+            }
+
+            Map<String, Object> samples = new HashMap<>();
+            slots.forEach(slot -> samples.put(slot, SAMPLE_VALUE + slot));
+            if (!candidate.render(samples).equals(process(template, samples, locale))) {
+                log.warn("메일 템플릿 '{}' 의 사전 렌더링 결과가 일치하지 않아 매번 전체 렌더링합니다.", template);
+                return Optional.empty();
+            }
+            return Optional.of(candidate);
+        } catch (Exception e) {
+            log.warn("메일 템플릿 '{}' 사전 렌더링에 실패했습니다.", template, e);
+            return Optional.empty();
+        }
+    }
+
+    private CompiledTemplate split(String rendered, Map<String, Object> markers) {
+        List<String> segments = new ArrayList<>();
+        List<String> slotOrder = new ArrayList<>();
+        int position = 0;
+
+        while (true) {
+            int next = -1;
+            String nextSlot = null;
+            for (Map.Entry<String, Object> marker : markers.entrySet()) {
+                int index = rendered.indexOf((String) marker.getValue(), position);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextSlot = marker.getKey();
+                }
+            }
+            if (next < 0) break;
+
+            segments.add(rendered.substring(position, next));
+            slotOrder.add(nextSlot);
+            position = next + ((String) markers.get(nextSlot)).length();
+        }
+        segments.add(rendered.substring(position));
+
+        if (!slotOrder.containsAll(markers.keySet())) return null;
+        return new CompiledTemplate(segments.toArray(String[]::new), slotOrder.toArray(String[]::new));
+    }
+
+    private String process(String template, Map<String, Object> variables, Locale locale) {
+        return templateEngine.process(template, new Context(locale, variables));
+    }
+
+    private static class CompiledTemplate {
+        private final String[] segments;
+        private final String[] slots;
+        private final int staticLength;
+
+        private CompiledTemplate(String[] segments, String[] slots) {
+            this.segments = segments;
+            this.slots = slots;
+            this.staticLength = Arrays.stream(segments).mapToInt(String::length).sum();
+        }
+
+        private String render(Map<String, Object> variables) {
+            String[] values = new String[slots.length];
+            int length = staticLength;
+            for (int i = 0; i < slots.length; i++) {
+                Object value = variables.get(slots[i]);
+                values[i] = value == null ? "" : HtmlEscape.escapeHtml4Xml(value.toString());
+                length += values[i].length();
+            }
+
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(segments[i]).append(values[i]);
+            }
+            return builder.append(segments[slots.length]).toString();
+        }
+    }
+}
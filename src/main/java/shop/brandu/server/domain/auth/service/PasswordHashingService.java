@@ -0,0 +1,172 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.PasswordHashingProperties;
+import shop.brandu.server.domain.user.cache.UserEntityCache;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해싱 전용 실행기 <br/>
+ *
+ * <p>
+ *     BCrypt 연산은 고정 크기 스레드 풀과 고정 크기 대기열에서만 수행된다.
+ *     대기열이 가득 차면 요청 스레드가 오래 기다리지 않도록 즉시 {@link ErrorCode#SERVER_BUSY} (503) 를 반환한다.
+ *     로그인에 성공한 해시의 비용이 현재 설정보다 낮으면 백그라운드에서 새 비용으로 다시 해싱한다.
+ *     설정보다 높은 비용은 그대로 두므로, 비용이 다른 노드가 섞여 있어도 해시를 번갈아 바꾸지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : PasswordHashingService
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PasswordHashingService {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserEntityCache userEntityCache;
+    private final PasswordHashingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private int targetStrength;
+
+    private Timer encodeTimer;
+    private Timer matchTimer;
+    private Counter rejectedCounter;
+    private Counter rehashCounter;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                properties.getWorkers(), properties.getWorkers(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // * PasswordEncoder 는 비용 값을 노출하지 않으므로 한 번 해싱한 결과에서 읽어온다.
+        targetStrength = cost(passwordEncoder.encode("strength"));
+
+        encodeTimer = hashTimer("encode");
+        matchTimer = hashTimer("matches");
+        rejectedCounter = Counter.builder("auth.password.rejected").description("대기열이 가득 차 거절된 해싱 요청 수").register(meterRegistry);
+        rehashCounter = Counter.builder("auth.password.rehashed").description("비용이 낮아 다시 해싱한 비밀번호 수").register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size()).description("해싱 대기 중인 요청 수").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시된 비밀번호
+     */
+    public String encode(String rawPassword) {
+        return await(submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 일치 여부
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Boolean matched = await(submit(() -> matchTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword))));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮다면 새 비용으로 다시 해싱한다. <br/>
+     * 로그인 응답을 늦추지 않도록 백그라운드에서 수행하며, 대기열이 가득 찬 경우에는 다음 로그인으로 미룬다.
+     *
+     * @param userId          사용자 아이디
+     * @param rawPassword     검증이 끝난 평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     */
+    public void upgradeIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (cost(encodedPassword) >= targetStrength) return;
+
+        try {
+            executor.execute(() -> {
+                try {
+                    userRepository.updatePassword(userId, passwordEncoder.encode(rawPassword));
+                    userEntityCache.evict(userId);
+                    rehashCounter.increment();
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해싱에 실패했습니다. userId: {}", userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("해싱 대기열이 가득 차 재해싱을 다음 로그인으로 미룹니다. userId: {}", userId);
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BranduException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new BranduException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BranduException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("BCrypt 연산 소요 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static int cost(String encodedPassword) {
+        if (encodedPassword == null) return -1;
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
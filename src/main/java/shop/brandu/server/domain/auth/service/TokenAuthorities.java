@@ -0,0 +1,88 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import shop.brandu.server.domain.user.entity.RoleType;
+
+import java.util.*;
+
+/**
+ * 토큰 권한 클레임 변환기 <br/>
+ *
+ * <p>
+ *     standard 형식은 쉼표로 이은 권한 이름을, compact 형식은 {@link RoleType} 순서를 비트로 모은 정수를 저장한다.
+ *     두 형식 모두 미리 만들어 둔 공유 {@link GrantedAuthority} 목록으로 변환하므로, 요청마다 권한 객체를 만들지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : TokenAuthorities
+ * @since : 10/17/26
+ */
+final class TokenAuthorities {
+    private static final RoleType[] ROLES = RoleType.values();
+    private static final Map<String, GrantedAuthority> BY_NAME = new HashMap<>();
+    private static final List<List<GrantedAuthority>> BY_MASK = new ArrayList<>();
+
+    static {
+        for (RoleType role : ROLES) {
+            BY_NAME.put(role.name(), new SimpleGrantedAuthority(role.name()));
+        }
+        for (int mask = 0; mask < 1 << ROLES.length; mask++) {
+            List<GrantedAuthority> authorities = new ArrayList<>();
+            for (RoleType role : ROLES) {
+                if ((mask & bit(role)) != 0) authorities.add(BY_NAME.get(role.name()));
+            }
+            BY_MASK.add(List.copyOf(authorities));
+        }
+    }
+
+    private TokenAuthorities() {
+    }
+
+    /**
+     * 권한 목록을 비트 마스크로 변환
+     *
+     * @param authorities 권한 목록
+     * @return 비트 마스크, {@link RoleType} 에 없는 권한이 있으면 null
+     */
+    static Integer toMask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            GrantedAuthority known = BY_NAME.get(authority.getAuthority());
+            if (known == null) return null;
+            mask |= bit(RoleType.valueOf(known.getAuthority()));
+        }
+        return mask;
+    }
+
+    static List<GrantedAuthority> fromMask(int mask) {
+        if (mask < 0 || mask >= BY_MASK.size()) {
+            throw new IllegalArgumentException("알 수 없는 권한입니다: " + mask);
+        }
+        return BY_MASK.get(mask);
+    }
+
+    static String toNames(Collection<? extends GrantedAuthority> authorities) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (GrantedAuthority authority : authorities) {
+            joiner.add(authority.getAuthority());
+        }
+        return joiner.toString();
+    }
+
+    static List<GrantedAuthority> fromNames(String names) {
+        // * 대부분의 토큰은 권한이 하나이므로 분리 없이 바로 찾는다.
+        if (BY_NAME.containsKey(names)) return BY_MASK.get(bit(RoleType.valueOf(names)));
+
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String name : names.split(",")) {
+            GrantedAuthority known = BY_NAME.get(name);
+            authorities.add(known != null ? known : new SimpleGrantedAuthority(name));
+        }
+        return authorities;
+    }
+
+    private static int bit(RoleType role) {
+        return 1 << role.ordinal();
+    }
+}
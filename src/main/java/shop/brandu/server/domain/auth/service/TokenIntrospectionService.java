@@ -0,0 +1,219 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.TokenIntrospectionProperties;
+import shop.brandu.server.domain.auth.dto.AuthData.Introspection;
+import shop.brandu.server.domain.auth.entity.VerifiedToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 내부 서비스용 토큰 일괄 검사 서비스 <br/>
+ *
+ * <p>
+ *     액세스 토큰 여러 개를 {@link JwtTokenService} 로 검증하고, 검증된 토큰이 속한 리프레시 토큰 패밀리가 남아 있는지 확인한다.
+ *     로그아웃과 리프레시 토큰 재사용 감지는 패밀리를 지우므로, 패밀리가 없는 토큰은 서명이 유효해도 폐기된 것으로 본다.
+ *     토큰 아이디(jti)는 리프레시 토큰에만 있으므로, jti 가 있는 토큰은 액세스 토큰으로 쓸 수 없어 비활성으로 답한다.
+ *     패밀리 확인은 배치마다 EXISTS 를 파이프라인으로 묶어 Redis 왕복 한 번으로 끝낸다.
+ *     {@code parallelThreshold} 개 이상의 토큰은 나눠서 {@code token-introspection} 스레드와 호출 스레드가 함께 검증한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : TokenIntrospectionService
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenIntrospectionService {
+    private static final String REVOKED = "만료되었거나 폐기된 토큰입니다.";
+    private static final String NO_FAMILY = "토큰 패밀리 정보가 없는 토큰입니다.";
+    private static final String NOT_ACCESS_TOKEN = "액세스 토큰이 아닙니다.";
+
+    private final JwtTokenService jwtTokenService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenIntrospectionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private ExecutorService workers;
+    private Counter activeCounter;
+    private Counter inactiveCounter;
+    private DistributionSummary batchSummary;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, properties.getWorkers()), runnable -> {
+            Thread thread = new Thread(runnable, "token-introspection-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        activeCounter = Counter.builder("auth.introspection.tokens").description("검사한 토큰 수").tag("result", "active").register(meterRegistry);
+        inactiveCounter = Counter.builder("auth.introspection.tokens").description("검사한 토큰 수").tag("result", "inactive").register(meterRegistry);
+        batchSummary = DistributionSummary.builder("auth.introspection.batch.size").description("요청 한 번에 검사한 토큰 수").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (workers != null) workers.shutdownNow();
+    }
+
+    /**
+     * 내부 서비스 API 키 확인
+     *
+     * @param apiKey 요청 헤더의 API 키
+     */
+    public void authorize(String apiKey) {
+        String expected = properties.getApiKey();
+        if (expected == null || expected.isEmpty() || apiKey == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), apiKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new BranduException(ErrorCode.ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 토큰 일괄 검사
+     *
+     * @param tokens 액세스 토큰 목록
+     * @return 토큰과 같은 순서의 {@link Introspection} 목록, 만료 시각은 epoch 초다.
+     */
+    public List<Introspection> introspect(List<String> tokens) {
+        if (tokens.size() > properties.getMaxBatchSize()) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, "토큰은 한 번에 " + properties.getMaxBatchSize() + " 개까지 검사할 수 있습니다.");
+        }
+
+        VerifiedToken[] verified = new VerifiedToken[tokens.size()];
+        String[] reasons = new String[tokens.size()];
+        verify(tokens, verified, reasons);
+        Map<String, Boolean> families = families(verified);
+
+        List<Introspection> results = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            Introspection result = result(verified[i], reasons[i], families);
+            (result.isActive() ? activeCounter : inactiveCounter).increment();
+            results.add(result);
+        }
+        batchSummary.record(tokens.size());
+        return results;
+    }
+
+    /**
+     * 서명과 만료 시각 검증, 토큰이 적으면 호출 스레드에서 모두 처리한다.
+     */
+    private void verify(List<String> tokens, VerifiedToken[] verified, String[] reasons) {
+        int size = tokens.size();
+        int threshold = Math.max(1, properties.getParallelThreshold());
+        int chunks = Math.min(Math.max(1, properties.getWorkers()) + 1, (size + threshold - 1) / threshold);
+        if (chunks <= 1) {
+            verifyRange(tokens, verified, reasons, 0, size);
+            return;
+        }
+
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            futures.add(workers.submit(() -> verifyRange(tokens, verified, reasons, start, end)));
+        }
+        verifyRange(tokens, verified, reasons, 0, Math.min(size, chunkSize));
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BranduException(ErrorCode.SERVER_BUSY);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private void verifyRange(List<String> tokens, VerifiedToken[] verified, String[] reasons, int from, int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                verified[i] = jwtTokenService.verifyToken(tokens.get(i));
+            } catch (Exception e) {
+                reasons[i] = e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * 검증된 토큰들의 패밀리 존재 여부, 중복을 제거하고 EXISTS 를 파이프라인 한 번으로 보낸다.
+     */
+    private Map<String, Boolean> families(VerifiedToken[] verified) {
+        Set<String> familyIds = new LinkedHashSet<>();
+        for (VerifiedToken token : verified) {
+            if (token == null || isRefreshToken(token.getClaims())) continue;
+            String familyId = JwtTokenService.familyId(token.getClaims());
+            if (familyId != null) familyIds.add(familyId);
+        }
+        if (familyIds.isEmpty()) return Map.of();
+
+        List<String> ordered = new ArrayList<>(familyIds);
+        List<Object> exists;
+        try {
+            exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String familyId : ordered) {
+                    connection.keyCommands().exists(CacheKey.refreshFamilyKey(familyId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("토큰 패밀리 조회 실패: {}", e.getMessage());
+            throw new BranduException(ErrorCode.SERVER_BUSY, "토큰 폐기 여부를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Map<String, Boolean> families = new HashMap<>(ordered.size() * 2);
+        for (int i = 0; i < ordered.size(); i++) {
+            families.put(ordered.get(i), Boolean.TRUE.equals(exists.get(i)));
+        }
+        return families;
+    }
+
+    private static Introspection result(VerifiedToken verified, String reason, Map<String, Boolean> families) {
+        if (verified == null) return Introspection.inactive(reason);
+
+        Claims claims = verified.getClaims();
+        if (isRefreshToken(claims)) return Introspection.inactive(NOT_ACCESS_TOKEN);
+        String familyId = JwtTokenService.familyId(claims);
+        if (familyId == null) return Introspection.inactive(NO_FAMILY);
+        if (!families.getOrDefault(familyId, false)) return Introspection.inactive(REVOKED);
+
+        List<String> authorities = verified.getAuthentication().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        return Introspection.active(claims.getSubject(), authorities, claims.getExpiration().getTime() / 1000);
+    }
+
+    private static boolean isRefreshToken(Claims claims) {
+        return claims.getId() != null;
+    }
+}
@@ -0,0 +1,220 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import shop.brandu.server.core.cache.BloomFilter;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.RevocationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * 로그아웃된 사용자 로컬 필터 서비스 <br/>
+ *
+ * <p>
+ *     로그아웃 시 Redis 에 기록되는 {@code authentication#username} 해시를 블룸 필터로 미리 들고 있다가,
+ *     필터가 "폐기되었을 수도 있다" 고 답할 때만 Redis 를 조회하도록 한다.
+ *     기동 시와 주기적으로 Redis 를 스캔해 필터를 새로 만들고, 다른 노드의 로그아웃은 keyspace 알림으로 반영한다.
+ *     keyspace 알림이 켜져 있는지 확인하지 못하면 다른 노드의 로그아웃을 놓칠 수 있으므로 필터를 쓰지 않고 항상 Redis 를 조회한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : TokenRevocationService
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenRevocationService implements MessageListener {
+    private static final String KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RevocationProperties revocationProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.data.redis.database:0}")
+    private int database;
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter building;
+    private volatile boolean synced = false;
+
+    private Counter negativeCounter;
+    private Counter maybeCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void init() {
+        active = newFilter();
+        negativeCounter = lookupCounter("negative");
+        maybeCounter = lookupCounter("maybe");
+        falsePositiveCounter = lookupCounter("false_positive");
+
+        Gauge.builder("auth.revocation.filter.expected.fpp", this, service -> service.active.expectedFpp())
+                .description("블룸 필터의 예상 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.filter.observed.fpr", this, TokenRevocationService::observedFalsePositiveRate)
+                .description("폐기되지 않은 사용자 중 필터가 maybe 로 답한 비율")
+                .register(meterRegistry);
+
+        if (revocationProperties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new PatternTopic(keyspaceChannelPrefix() + "*"));
+        }
+    }
+
+    /**
+     * 로그아웃 처리된 사용자를 필터에 추가, Redis 에 로그아웃 기록을 남긴 뒤 호출한다.
+     *
+     * @param username 사용자 아이디
+     */
+    public void markRevoked(String username) {
+        // * 만들고 있는 필터를 먼저 읽는다. 아직 없다면 이후 시작되는 스캔이 Redis 에 남긴 기록을 읽으므로,
+        // * 그 사이 필터가 교체되어도 새 필터에 빠지지 않는다.
+        BloomFilter next = building;
+        active.put(username);
+        if (next != null) next.put(username);
+    }
+
+    /**
+     * 로그아웃 기록이 있을 수도 있는지 확인
+     *
+     * @param username 사용자 아이디
+     * @return false 라면 Redis 조회 없이 폐기되지 않은 것으로 판단해도 된다.
+     */
+    public boolean mightBeRevoked(String username) {
+        if (!revocationProperties.isEnabled() || !synced) return true;
+
+        boolean maybe = active.mightContain(username);
+        (maybe ? maybeCounter : negativeCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * 필터가 maybe 로 답했지만 Redis 에 기록이 없었던 경우 호출
+     */
+    public void recordFalsePositive() {
+        if (synced) falsePositiveCounter.increment();
+    }
+
+    /**
+     * Redis 의 로그아웃 기록을 스캔하여 필터를 새로 만든다. <br/>
+     * 블룸 필터는 삭제를 지원하지 않으므로 만료된 기록은 이 과정에서 정리된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.revocation.resync-interval:PT10M}", initialDelayString = "${auth.revocation.resync-interval:PT10M}")
+    public void resync() {
+        if (!revocationProperties.isEnabled()) return;
+
+        if (revocationProperties.isConfigureKeyspaceEvents()) {
+            enableKeyspaceEvents();
+        }
+        boolean notified = keyspaceEventsEnabled();
+        if (!notified) synced = false;
+
+        BloomFilter next = newFilter();
+        building = next;
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(CacheKey.AUTHENTICATION_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(key -> next.put(key.substring(CacheKey.AUTHENTICATION_PREFIX.length())));
+            }
+            active = next;
+            synced = notified;
+            if (!notified) {
+                log.warn("Redis keyspace 알림이 켜져 있지 않아 다른 노드의 로그아웃을 반영할 수 없습니다. 로그아웃 필터를 쓰지 않고 매번 Redis 를 조회합니다.");
+            }
+            log.debug("로그아웃 필터 동기화 완료: {} 건", next.insertions());
+        } catch (Exception e) {
+            log.warn("로그아웃 필터 동기화에 실패했습니다. 기존 필터를 유지합니다.", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String event = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!"hset".equals(event)) return;
+
+        String username = channel.substring(keyspaceChannelPrefix().length());
+        markRevoked(username);
+    }
+
+    private void enableKeyspaceEvents() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                String current = currentKeyspaceEvents(connection);
+                String required = current;
+                if (!required.contains("K")) required += "K";
+                if (!required.contains("h") && !required.contains("A")) required += "h";
+                if (!required.equals(current)) {
+                    connection.serverCommands().setConfig(KEYSPACE_EVENTS, required);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Redis keyspace 알림을 설정하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 해시 변경 keyspace 알림(K 와 h 또는 A)이 켜져 있는지 확인, 설정을 읽지 못하면 꺼진 것으로 본다.
+     */
+    private boolean keyspaceEventsEnabled() {
+        try {
+            String current = redisTemplate.execute((RedisCallback<String>) this::currentKeyspaceEvents);
+            return current != null && current.contains("K") && (current.contains("h") || current.contains("A"));
+        } catch (Exception e) {
+            log.warn("Redis keyspace 알림 설정을 확인하지 못했습니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String currentKeyspaceEvents(RedisConnection connection) {
+        Properties config = connection.serverCommands().getConfig(KEYSPACE_EVENTS);
+        if (config == null) return "";
+        return config.getProperty(KEYSPACE_EVENTS, "");
+    }
+
+    private String keyspaceChannelPrefix() {
+        return "__keyspace@" + database + "__:" + CacheKey.AUTHENTICATION_PREFIX;
+    }
+
+    private BloomFilter newFilter() {
+        return BloomFilter.create(revocationProperties.getExpectedInsertions(), revocationProperties.getFalsePositiveProbability());
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("auth.revocation.filter")
+                .description("로그아웃 필터 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double notRevoked = negativeCounter.count() + falsePositives;
+        return notRevoked == 0 ? 0 : falsePositives / notRevoked;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
 import shop.brandu.server.core.exception.BranduException;
 import shop.brandu.server.core.exception.ErrorCode;
 import shop.brandu.server.domain.auth.entity.UserPrincipal;
@@ -15,10 +16,11 @@ import shop.brandu.server.domain.user.repository.UserRepository;
 @Service
 public class UserPrincipalService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final RecentWriteTracker recentWriteTracker;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username).orElseThrow(
+        User user = recentWriteTracker.readAfterWrite(username, () -> userRepository.findByUsername(username)).orElseThrow(
                 () -> new BranduException(ErrorCode.USER_NOT_FOUND)
         );
         return new UserPrincipal(user);
@@ -0,0 +1,106 @@
+package shop.brandu.server.domain.user.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.properties.UserCacheProperties;
+import shop.brandu.server.domain.user.entity.User;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 엔티티 2차 캐시 무효화 <br/>
+ *
+ * <p>
+ *     2차 캐시는 노드마다 따로 있는 Caffeine 영역이므로, 한 노드에서 사용자를 수정하면 Hibernate 는 그 노드의 영역만 갱신한다.
+ *     수정이 커밋되면 사용자 키를 Pub/Sub 으로 알려 다른 노드도 같은 엔트리를 지우게 한다.
+ *     네이티브 UPDATE 나 JPQL 일괄 수정처럼 Hibernate 가 엔티티를 거치지 않는 수정도 이 클래스로 무효화한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserEntityCache
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class UserEntityCache implements MessageListener {
+    private static final String REMOVED_SUFFIX = ":removed";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserCacheProperties properties;
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CacheKey.USER_ENTITY_CHANNEL));
+    }
+
+    /**
+     * 수정된 사용자 엔티티 무효화 <br/>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해, 커밋 전의 값이 다시 캐시되는 것을 막는다.
+     *
+     * @param id 사용자 식별자
+     */
+    public void evict(Long id) {
+        afterCommit(() -> evictNow(id, false));
+    }
+
+    /**
+     * 삭제된 사용자 엔티티 무효화 <br/>
+     * 같은 아이디로 다시 가입한 사용자가 이전 식별자로 조회되지 않도록 자연키 영역도 비운다.
+     *
+     * @param id 사용자 식별자
+     */
+    public void evictRemoved(Long id) {
+        afterCommit(() -> evictNow(id, true));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        boolean removed = body.endsWith(REMOVED_SUFFIX);
+        evictLocally(Long.valueOf(removed ? body.substring(0, body.length() - REMOVED_SUFFIX.length()) : body), removed);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void evictNow(Long id, boolean removed) {
+        evictLocally(id, removed);
+        try {
+            redisTemplate.convertAndSend(CacheKey.USER_ENTITY_CHANNEL, removed ? id + REMOVED_SUFFIX : id.toString());
+        } catch (Exception e) {
+            log.warn("사용자 엔티티 캐시 무효화 전파에 실패했습니다. 다른 노드에서 최대 {} 동안 이전 정보가 보일 수 있습니다. id: {}", properties.getRegionTtl(), id, e);
+        }
+    }
+
+    private void evictLocally(Long id, boolean removed) {
+        entityManagerFactory.getCache().evict(User.class, id);
+        if (removed) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictNaturalIdData(User.class);
+        }
+    }
+}
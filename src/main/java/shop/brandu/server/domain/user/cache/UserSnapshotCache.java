@@ -0,0 +1,196 @@
+package shop.brandu.server.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StreamUtils;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.UserCacheProperties;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics;
+import shop.brandu.server.domain.auth.service.AuthStageMetrics.Stage;
+import shop.brandu.server.domain.user.dto.UserData.Snapshot;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 스냅샷 2단 캐시 <br/>
+ *
+ * <p>
+ *     노드 로컬 Caffeine 캐시 → Redis 해시 → 데이터베이스 순서로 조회한다.
+ *     사용자 엔티티가 변경되면 커밋 이후 Redis 키를 지우고 Pub/Sub 으로 다른 노드의 로컬 캐시도 비운다.
+ *     무효화할 때마다 사용자별 버전을 올리고, 데이터베이스에서 읽어 Redis 에 다시 쓸 때는 읽기 전의 버전이 그대로인 경우에만 쓴다.
+ *     그래서 조회 도중 무효화가 끼어들면 이전 정보는 Redis 에 남지 않고 다음 조회에서 다시 읽는다.
+ *     로컬 캐시 통계는 {@code cache.*} 메트릭, 하위 계층 조회 수는 {@code user.snapshot.load} 메트릭으로 노출된다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserSnapshotCache
+ * @since : 10/17/26
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache implements MessageListener {
+    private static final String CACHE_NAME = "userSnapshots";
+    // * KEYS: [스냅샷, 버전], ARGV: [읽기 전 버전(없으면 빈 문자열), 유효시간(ms), 필드, 값, ...]
+    // * 반환 값은 1 저장, 0 그 사이 무효화되어 저장하지 않음
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of(loadScript("scripts/put_user_snapshot.lua"), Long.class);
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserCacheProperties properties;
+    private final Cache<String, Snapshot> nearCache;
+    private final Counter redisLoadCounter;
+    private final Counter databaseLoadCounter;
+    private final AuthStageMetrics authStageMetrics;
+    private final RecentWriteTracker recentWriteTracker;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            UserCacheProperties properties,
+            MeterRegistry meterRegistry,
+            AuthStageMetrics authStageMetrics,
+            RecentWriteTracker recentWriteTracker
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.properties = properties;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getNearTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, CACHE_NAME);
+        this.redisLoadCounter = loadCounter(meterRegistry, "redis");
+        this.databaseLoadCounter = loadCounter(meterRegistry, "database");
+        this.authStageMetrics = authStageMetrics;
+        this.recentWriteTracker = recentWriteTracker;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (properties.isEnabled()) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CacheKey.USER_SNAPSHOT_CHANNEL));
+        }
+    }
+
+    /**
+     * 사용자 스냅샷 조회
+     *
+     * @param username 사용자 아이디
+     * @return {@link Snapshot}
+     */
+    public Snapshot get(String username) {
+        if (!properties.isEnabled()) return loadFromDatabase(username);
+        return nearCache.get(username, this::loadFromRedis);
+    }
+
+    /**
+     * 사용자 스냅샷 무효화 <br/>
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영해, 커밋 전의 값이 다시 캐시되는 것을 막는다.
+     *
+     * @param username 사용자 아이디
+     */
+    public void evict(String username) {
+        if (!properties.isEnabled()) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(username);
+                }
+            });
+            return;
+        }
+        evictNow(username);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        nearCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictNow(String username) {
+        nearCache.invalidate(username);
+        try {
+            // * 버전을 먼저 올려, 지우기 전후로 진행 중인 조회가 이전 정보를 다시 쓰지 못하게 한다.
+            String versionKey = CacheKey.userSnapshotVersionKey(username);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, properties.getRedisTtl());
+            redisTemplate.delete(CacheKey.userSnapshotKey(username));
+            redisTemplate.convertAndSend(CacheKey.USER_SNAPSHOT_CHANNEL, username);
+        } catch (Exception e) {
+            log.warn("사용자 스냅샷 무효화에 실패했습니다. 최대 {} 동안 이전 정보가 보일 수 있습니다. username: {}", properties.getRedisTtl(), username, e);
+        }
+    }
+
+    private Snapshot loadFromRedis(String username) {
+        String key = CacheKey.userSnapshotKey(username);
+        Map<Object, Object> cached = redisTemplate.opsForHash().entries(key);
+        if (!cached.isEmpty()) {
+            redisLoadCounter.increment();
+            return Snapshot.fromMap(cached);
+        }
+
+        String version = redisTemplate.opsForValue().get(CacheKey.userSnapshotVersionKey(username));
+        Snapshot snapshot = loadFromDatabase(username);
+        List<String> args = new ArrayList<>();
+        args.add(version == null ? "" : version);
+        args.add(Long.toString(properties.getRedisTtl().toMillis()));
+        snapshot.toMap().forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        redisTemplate.execute(PUT_SCRIPT, List.of(key, CacheKey.userSnapshotVersionKey(username)), args.toArray());
+        return snapshot;
+    }
+
+    private Snapshot loadFromDatabase(String username) {
+        databaseLoadCounter.increment();
+        return authStageMetrics.record(Stage.USER_LOAD, () -> recentWriteTracker.readAfterWrite(username, () -> userRepository.findByUsername(username))
+                .map(Snapshot::from)
+                .orElseThrow(() -> new BranduException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    private static String loadScript(String path) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("user.snapshot.load")
+                .description("로컬 캐시 미스로 하위 계층에서 읽어온 사용자 스냅샷 수")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
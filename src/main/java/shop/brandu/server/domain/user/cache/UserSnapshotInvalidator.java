@@ -0,0 +1,36 @@
+package shop.brandu.server.domain.user.cache;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import shop.brandu.server.domain.user.entity.User;
+
+/**
+ * 사용자 엔티티 변경 시 스냅샷 캐시와 다른 노드의 2차 캐시를 무효화하는 JPA 엔티티 리스너 <br/>
+ * 이메일 인증, 잠금, 권한 변경 등 더티 체킹으로 반영되는 모든 수정이 대상이다.
+ *
+ * @author : sunsuking
+ * @fileName : UserSnapshotInvalidator
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@Component
+public class UserSnapshotInvalidator {
+    // * EntityManagerFactory 생성 시점에 리스너가 만들어지므로 순환 참조를 피하기 위해 지연 조회한다.
+    private final ObjectProvider<UserSnapshotCache> userSnapshotCache;
+    private final ObjectProvider<UserEntityCache> userEntityCache;
+
+    @PostUpdate
+    public void invalidate(User user) {
+        userSnapshotCache.ifAvailable(cache -> cache.evict(user.getUsername()));
+        userEntityCache.ifAvailable(cache -> cache.evict(user.getId()));
+    }
+
+    @PostRemove
+    public void invalidateRemoved(User user) {
+        userSnapshotCache.ifAvailable(cache -> cache.evict(user.getUsername()));
+        userEntityCache.ifAvailable(cache -> cache.evictRemoved(user.getId()));
+    }
+}
@@ -0,0 +1,92 @@
+package shop.brandu.server.domain.user.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import shop.brandu.server.core.response.SuccessResponse;
+import shop.brandu.server.domain.auth.dto.AuthData.LoginHistory;
+import shop.brandu.server.domain.auth.service.LoginAuditService;
+import shop.brandu.server.domain.auth.service.LoginLockoutService;
+import shop.brandu.server.domain.user.dto.UserData.ImportReport;
+import shop.brandu.server.domain.user.service.UserImportFormat;
+import shop.brandu.server.domain.user.service.UserImportService;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 관리자용 사용자 컨트롤러 <br/>
+ * {@code ADMIN} 권한이 있어야 호출할 수 있다.
+ *
+ * @author : sunsuking
+ * @fileName : UserAdminController
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(value = "/api/v1/admin/users")
+public class UserAdminController {
+    private final UserImportService userImportService;
+    private final LoginAuditService loginAuditService;
+    private final LoginLockoutService loginLockoutService;
+
+    /**
+     * 사용자 일괄 등록 <br/>
+     * 본문은 헤더가 있는 CSV 또는 NDJSON 이며, 읽는 즉시 청크 단위로 저장하므로 본문 전체를 메모리에 올리지 않는다.
+     *
+     * @param request {@link HttpServletRequest}
+     * @return {@link ImportReport}
+     */
+    @PostMapping(value = "/import", consumes = {UserImportFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<ImportReport> importUsers(HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        return SuccessResponse.of(userImportService.importUsers(request.getInputStream(), charset, UserImportFormat.of(contentType)));
+    }
+
+    /**
+     * 진행 중이거나 최근에 끝난 일괄 등록 조회
+     *
+     * @return {@link ImportReport} 목록
+     */
+    @GetMapping("/imports")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<List<ImportReport>> imports() {
+        return SuccessResponse.of(userImportService.reports());
+    }
+
+    /**
+     * 사용자의 최근 로그인 감사 기록 조회 <br/>
+     * 기록은 모아서 저장하므로 방금 일어난 로그인은 {@code auth.login-audit.flush-interval} 뒤에 보인다.
+     *
+     * @param username 사용자 아이디
+     * @param size     조회 건수
+     * @return 최근 기록부터 정렬된 {@link LoginHistory} 목록
+     */
+    @GetMapping("/{username}/login-events")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<List<LoginHistory>> loginEvents(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return SuccessResponse.of(loginAuditService.recentEvents(username, size));
+    }
+
+    /**
+     * 계정 잠금 해제 <br/>
+     * 로그인 실패 기록과 로그인 지연도 함께 지우므로, 잠기지 않고 지연만 된 계정에도 사용할 수 있다.
+     *
+     * @param username 사용자 아이디
+     */
+    @DeleteMapping("/{username}/lock")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<Void> unlock(@PathVariable String username) {
+        loginLockoutService.unlock(username);
+        return SuccessResponse.empty();
+    }
+}
@@ -1,8 +1,22 @@
 package shop.brandu.server.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import shop.brandu.server.core.annotation.CurrentUser;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.UserListingProperties;
+import shop.brandu.server.core.response.SuccessResponse;
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+import shop.brandu.server.domain.user.dto.UserData.Snapshot;
+import shop.brandu.server.domain.user.service.UserService;
 
 /**
  * 유저 컨트롤러 <br/>
@@ -15,5 +29,55 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping(value = "/api/v1/users")
 public class UserController {
-    
+    private final UserService userService;
+    private final UserListingProperties userListingProperties;
+
+    /**
+     * 사용자 목록 조회, {@code ADMIN} 권한이 필요하다.
+     *
+     * @param search {@link Search}
+     * @return {@link Listing}
+     */
+    @GetMapping
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<Listing> users(@ModelAttribute @Validated Search search, Errors errors) {
+        if (errors.hasErrors()) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, errors);
+        }
+        return SuccessResponse.of(userService.findUsers(search));
+    }
+
+    /**
+     * 사용자 내보내기, {@code ADMIN} 권한이 필요하다. <br/>
+     * 목록 조회와 같은 필터를 받으며, 조건에 맞는 모든 사용자를 NDJSON 으로 내려준다.
+     * 비동기 요청의 기본 제한 시간은 그대로 두고, 이 요청에만 {@code user.listing.export-timeout} 을 적용한다.
+     *
+     * @param search   {@link Search}
+     * @param response {@link HttpServletResponse}
+     * @return 응답 본문을 쓰는 비동기 작업
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(value = HttpStatus.OK)
+    public WebAsyncTask<Void> export(@ModelAttribute @Validated Search search, Errors errors, HttpServletResponse response) {
+        if (errors.hasErrors()) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, errors);
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(userListingProperties.getExportTimeout().toMillis(), () -> {
+            userService.exportUsers(search, response.getOutputStream());
+            return null;
+        });
+    }
+
+    /**
+     * 로그인한 사용자 정보 조회
+     *
+     * @param user {@link Snapshot}
+     * @return {@link Snapshot}
+     */
+    @GetMapping("/me")
+    @ResponseStatus(value = HttpStatus.OK)
+    public SuccessResponse<Snapshot> me(@CurrentUser Snapshot user) {
+        return SuccessResponse.of(user);
+    }
 }
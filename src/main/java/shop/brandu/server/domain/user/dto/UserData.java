@@ -0,0 +1,220 @@
+package shop.brandu.server.domain.user.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import shop.brandu.server.domain.auth.entity.ProviderType;
+import shop.brandu.server.domain.user.entity.RoleType;
+import shop.brandu.server.domain.user.entity.User;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 관련 DTO 클래스 관리용 이너 클래스 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : UserData
+ * @since : 10/17/26
+ */
+public class UserData {
+    /**
+     * 로그인 검사에 필요한 인증 정보와 계정 상태만 담은 프로젝션 <br/>
+     * 프로필 컬럼은 읽지 않으며, 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Credential {
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final String password;
+        private final RoleType roleType;
+        private final boolean isEmailVerified;
+        private final boolean isLocked;
+    }
+
+    /**
+     * 이메일 인증으로 갱신된 사용자의 키, 네이티브 UPDATE 의 RETURNING 결과를 받는 프로젝션
+     */
+    public interface Confirmed {
+        Long getId();
+
+        String getUsername();
+    }
+
+    /**
+     * 캐시에 보관되는 읽기 전용 사용자 정보 <br/>
+     * 비밀번호는 포함하지 않으며, 컨트롤러에서 {@link shop.brandu.server.core.annotation.CurrentUser} 로 주입받는다.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final String nickname;
+        private final String profileImage;
+        private final String phoneNumber;
+        private final ProviderType providerType;
+        private final RoleType roleType;
+        private final boolean isEmailVerified;
+        private final boolean isLocked;
+
+        public static Snapshot from(User user) {
+            return new Snapshot(
+                    user.getId(),
+                    user.getUsername(),
+                    user.getEmail(),
+                    user.getNickname(),
+                    user.getProfileImage(),
+                    user.getPhoneNumber(),
+                    user.getProviderType(),
+                    user.getRoleType(),
+                    user.isEmailVerified(),
+                    user.isLocked()
+            );
+        }
+
+        public static Snapshot fromMap(Map<Object, Object> map) {
+            return new Snapshot(
+                    Long.valueOf(map.get("id").toString()),
+                    map.get("username").toString(),
+                    map.get("email").toString(),
+                    (String) map.get("nickname"),
+                    (String) map.get("profileImage"),
+                    (String) map.get("phoneNumber"),
+                    ProviderType.valueOf(map.get("providerType").toString()),
+                    RoleType.valueOf(map.get("roleType").toString()),
+                    Boolean.parseBoolean(map.get("isEmailVerified").toString()),
+                    Boolean.parseBoolean(map.get("isLocked").toString())
+            );
+        }
+
+        public Map<String, String> toMap() {
+            Map<String, String> map = new HashMap<>();
+            map.put("id", id.toString());
+            map.put("username", username);
+            map.put("email", email);
+            if (nickname != null) map.put("nickname", nickname);
+            if (profileImage != null) map.put("profileImage", profileImage);
+            if (phoneNumber != null) map.put("phoneNumber", phoneNumber);
+            map.put("providerType", providerType.name());
+            map.put("roleType", roleType.name());
+            map.put("isEmailVerified", Boolean.toString(isEmailVerified));
+            map.put("isLocked", Boolean.toString(isLocked));
+            return map;
+        }
+    }
+
+    /**
+     * 일괄 등록 한 행, CSV 의 헤더 이름과 NDJSON 의 필드 이름이 같다. <br/>
+     * 이전 시스템에서 사용하던 계정이므로 {@code emailVerified} 를 생략하면 인증된 것으로 본다.
+     * 비밀번호가 이미 BCrypt 해시라면 다시 해싱하지 않는다.
+     */
+    @Data
+    public static class ImportRow {
+        @Email(message = "이메일 형식이 아닙니다.")
+        @NotBlank(message = "아이디를 입력해주세요.")
+        private String username;
+
+        @Email(message = "이메일 형식이 아닙니다.")
+        @NotBlank(message = "이메일을 입력해주세요.")
+        private String email;
+
+        @NotBlank(message = "비밀번호를 입력해주세요.")
+        private String password;
+
+        private String nickname;
+
+        private String phoneNumber;
+
+        private Boolean emailVerified;
+    }
+
+    /**
+     * 등록하지 못한 행
+     */
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class ImportError {
+        private final long line;
+        private final String username;
+        private final String message;
+    }
+
+    /**
+     * 일괄 등록 진행 상황, 진행 중 조회와 완료 응답에 함께 쓰인다. <br/>
+     * {@code errors} 는 {@code user.import.max-errors} 개까지만 담고, 나머지는 {@code failed} 수에만 반영한다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ImportReport {
+        private final String id;
+        private final String format;
+        private final String status;
+        private final long read;
+        private final long imported;
+        private final long failed;
+        private final Instant startedAt;
+        private final long elapsedMillis;
+        private final double rowsPerSecond;
+        private final List<ImportError> errors;
+    }
+
+    /**
+     * 사용자 목록 조회 조건, 모든 필터는 생략할 수 있다. <br/>
+     * 다음 페이지는 이전 응답의 {@code nextCursor} 를 {@code cursor} 로 넘겨 조회한다.
+     */
+    @Data
+    public static class Search {
+        private ProviderType providerType;
+
+        private RoleType roleType;
+
+        private Boolean emailVerified;
+
+        private Boolean locked;
+
+        private String cursor;
+
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        private Integer size;
+    }
+
+    /**
+     * 목록 조회와 내보내기에 쓰이는 사용자 요약, 비밀번호는 포함하지 않는다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Summary {
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final String nickname;
+        private final ProviderType providerType;
+        private final RoleType roleType;
+        private final boolean isEmailVerified;
+        private final boolean isLocked;
+        private final LocalDateTime createdAt;
+    }
+
+    /**
+     * 사용자 목록 한 페이지, 마지막 페이지라면 {@code nextCursor} 는 null 이다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Listing {
+        private final List<Summary> content;
+        private final String nextCursor;
+    }
+}
@@ -2,6 +2,7 @@ package shop.brandu.server.domain.user.entity;
 
 /**
  * 사용자 권한 열거형 클래스 <br/>
+ * compact 형식 토큰은 권한을 순서(ordinal) 비트로 저장하므로, 새 권한은 반드시 맨 뒤에 추가한다.
  *
  * @author : sunsuking
  * @fileName : RoleType
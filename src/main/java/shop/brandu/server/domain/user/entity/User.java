@@ -5,11 +5,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import shop.brandu.server.core.entity.BaseEntity;
 import shop.brandu.server.domain.auth.attribute.OAuth2Attribute;
 import shop.brandu.server.domain.auth.dto.AuthData;
 import shop.brandu.server.domain.auth.entity.ProviderType;
+import shop.brandu.server.domain.user.cache.UserSnapshotInvalidator;
+import shop.brandu.server.domain.user.dto.UserData;
 
 /**
  * 사용자 엔티티 클래스 <br/>
@@ -25,22 +31,42 @@ import shop.brandu.server.domain.auth.entity.ProviderType;
         uniqueConstraints = {
                 @UniqueConstraint(name = "unique_users_username", columnNames = {"username"}),
                 @UniqueConstraint(name = "unique_users_email", columnNames = {"email"})
+        },
+        indexes = {
+                // * 로그인 조회가 테이블을 읽지 않도록 인증 정보와 계정 상태를 모두 담은 커버링 인덱스
+                @Index(
+                        name = "idx_users_username_credential",
+                        columnList = "username, password, email, role_type, is_email_verified, is_locked, id"
+                ),
+                // * 사용자 목록의 키셋 페이지네이션이 정렬 없이 뒤에서부터 읽는 인덱스
+                @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
         }
 )
 @Entity
+@EntityListeners(UserSnapshotInvalidator.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
+@NaturalIdCache(region = User.NATURAL_ID_CACHE_REGION)
 @ToString
 public class User extends BaseEntity {
+    public static final String CACHE_REGION = "users";
+    public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+
+    // * IDENTITY 는 INSERT 마다 키를 돌려받아야 해서 JDBC 배치가 꺼지므로, 시퀀스에서 50 개씩 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
+    @Column(name = "id")
     private Long id;
 
-    @Column(nullable = false)
+    @NaturalId
+    @Column(name = "username", nullable = false)
     private String username;
 
-    @Column(nullable = false)
+    @Column(name = "email", nullable = false)
     private String email;
 
-    @Column(nullable = false)
+    @Column(name = "password", nullable = false)
     private String password;
 
     private String nickname;
@@ -53,16 +79,16 @@ public class User extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private ProviderType providerType;
 
-    @Column(nullable = false)
+    @Column(name = "role_type", nullable = false)
     @Enumerated(EnumType.STRING)
     @ColumnDefault("USER")
     private RoleType roleType = RoleType.USER;
 
-    @Column(nullable = false)
+    @Column(name = "is_email_verified", nullable = false)
     @ColumnDefault("false")
     private boolean isEmailVerified = false;
 
-    @Column(nullable = false)
+    @Column(name = "is_locked", nullable = false)
     @ColumnDefault("false")
     private boolean isLocked = false;
 
@@ -78,6 +104,19 @@ public class User extends BaseEntity {
         return user;
     }
 
+    public static User createImportedUser(UserData.ImportRow row, String encodedPassword) {
+        User user = new User();
+        user.username = row.getUsername();
+        user.email = row.getEmail();
+        user.password = encodedPassword;
+        user.nickname = row.getNickname();
+        user.phoneNumber = row.getPhoneNumber();
+        user.providerType = ProviderType.LOCAL;
+        user.roleType = RoleType.USER;
+        user.isEmailVerified = !Boolean.FALSE.equals(row.getEmailVerified());
+        return user;
+    }
+
     public static User createLocalUser(AuthData.SignUp signUp) {
         User user = new User();
         user.username = signUp.getUsername();
@@ -0,0 +1,23 @@
+package shop.brandu.server.domain.user.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+import shop.brandu.server.domain.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 자연키 기반 사용자 조회 레포지토리 인터페이스 <br/>
+ *
+ * <p>
+ *     아이디를 자연키로 조회해 Hibernate 2차 캐시의 자연키 영역과 엔티티 영역을 차례로 확인하고, 둘 다 없을 때만 데이터베이스를 읽는다.
+ *     {@link UserRepository} 에 합쳐서 사용하며, 파생 쿼리였던 {@code findByUsername} 을 대신한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserNaturalIdRepository
+ * @since : 10/17/26
+ */
+public interface UserNaturalIdRepository {
+    @Transactional(readOnly = true)
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,27 @@
+package shop.brandu.server.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import shop.brandu.server.domain.user.entity.User;
+
+import java.util.Optional;
+
+/**
+ * 자연키 기반 사용자 조회 레포지토리 구현체 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : UserNaturalIdRepositoryImpl
+ * @since : 10/17/26
+ */
+@RequiredArgsConstructor
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+    }
+}
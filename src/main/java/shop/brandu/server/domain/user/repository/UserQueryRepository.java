@@ -0,0 +1,40 @@
+package shop.brandu.server.domain.user.repository;
+
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+import shop.brandu.server.domain.user.dto.UserData.Summary;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자 목록 조회 레포지토리 인터페이스 <br/>
+ *
+ * <p>
+ *     조건에 따라 달라지는 목록 쿼리를 JDBC 로 직접 실행하며, {@link UserRepository} 에 합쳐서 사용한다.
+ *     정렬은 항상 {@code created_at DESC, id DESC} 이고 {@code idx_users_created_at_id} 인덱스를 따라 읽는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserQueryRepository
+ * @since : 10/17/26
+ */
+public interface UserQueryRepository {
+    /**
+     * 키셋 페이지네이션 기반 사용자 목록 조회 <br/>
+     * OFFSET 없이 이전 페이지의 마지막 {@code (created_at, id)} 다음부터 읽으므로, 뒤쪽 페이지도 첫 페이지와 같은 비용이 든다.
+     *
+     * @param search {@link Search}
+     * @param size   페이지 크기
+     * @return {@link Listing}
+     */
+    Listing findUsers(Search search, int size);
+
+    /**
+     * 조건에 맞는 모든 사용자를 서버 측 커서로 읽어 한 행씩 전달한다. {@code search} 의 커서와 크기는 무시한다. <br/>
+     * PostgreSQL 은 트랜잭션 안에서만 커서로 나눠 읽으므로, 반드시 트랜잭션 안에서 호출해야 한다.
+     *
+     * @param search   {@link Search}
+     * @param consumer 행마다 호출되는 소비자
+     */
+    void exportUsers(Search search, Consumer<Summary> consumer);
+}
@@ -0,0 +1,137 @@
+package shop.brandu.server.domain.user.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.UserListingProperties;
+import shop.brandu.server.domain.auth.entity.ProviderType;
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+import shop.brandu.server.domain.user.dto.UserData.Summary;
+import shop.brandu.server.domain.user.entity.RoleType;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 목록 조회 레포지토리 구현체 <br/>
+ *
+ * <p>
+ *     커서는 마지막 행의 {@code created_at} 과 {@code id} 를 이어 붙여 Base64 로 감싼 값이다.
+ *     {@code id} 는 생성 시각이 같은 행의 순서를 정하므로, 같은 시각에 등록된 사용자도 빠지거나 중복되지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserQueryRepositoryImpl
+ * @since : 10/17/26
+ */
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+    private static final String SELECT = """
+            SELECT id, username, email, nickname, provider_type, role_type, is_email_verified, is_locked, created_at
+            FROM users
+            """;
+    private static final String ORDER_BY = " ORDER BY created_at DESC, id DESC";
+    private static final String CURSOR_SEPARATOR = "_";
+
+    private static final RowMapper<Summary> SUMMARY_MAPPER = (rs, rowNum) -> new Summary(
+            rs.getLong("id"),
+            rs.getString("username"),
+            rs.getString("email"),
+            rs.getString("nickname"),
+            ProviderType.valueOf(rs.getString("provider_type")),
+            RoleType.valueOf(rs.getString("role_type")),
+            rs.getBoolean("is_email_verified"),
+            rs.getBoolean("is_locked"),
+            rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate exportTemplate;
+
+    public UserQueryRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource, UserListingProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        // * 내보내기만 fetch size 를 지정해 드라이버가 결과 전체를 한 번에 받아 두지 않게 한다.
+        JdbcTemplate cursorTemplate = new JdbcTemplate(dataSource);
+        cursorTemplate.setFetchSize(properties.getExportFetchSize());
+        this.exportTemplate = new NamedParameterJdbcTemplate(cursorTemplate);
+    }
+
+    @Override
+    public Listing findUsers(Search search, int size) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = conditions(search, params);
+        if (search.getCursor() != null) {
+            seekAfter(search.getCursor(), conditions, params);
+        }
+        params.addValue("limit", size + 1);
+
+        // * 한 행을 더 읽어 다음 페이지가 있는지 확인한다.
+        List<Summary> rows = jdbcTemplate.query(SELECT + where(conditions) + ORDER_BY + " LIMIT :limit", params, SUMMARY_MAPPER);
+        if (rows.size() <= size) {
+            return new Listing(rows, null);
+        }
+        List<Summary> content = rows.subList(0, size);
+        return new Listing(content, cursorOf(content.get(size - 1)));
+    }
+
+    @Override
+    public void exportUsers(Search search, Consumer<Summary> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = SELECT + where(conditions(search, params)) + ORDER_BY;
+        exportTemplate.query(sql, params, rs -> {
+            consumer.accept(SUMMARY_MAPPER.mapRow(rs, 0));
+        });
+    }
+
+    private List<String> conditions(Search search, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (search.getProviderType() != null) {
+            conditions.add("provider_type = :providerType");
+            params.addValue("providerType", search.getProviderType().name());
+        }
+        if (search.getRoleType() != null) {
+            conditions.add("role_type = :roleType");
+            params.addValue("roleType", search.getRoleType().name());
+        }
+        if (search.getEmailVerified() != null) {
+            conditions.add("is_email_verified = :emailVerified");
+            params.addValue("emailVerified", search.getEmailVerified());
+        }
+        if (search.getLocked() != null) {
+            conditions.add("is_locked = :locked");
+            params.addValue("locked", search.getLocked());
+        }
+        return conditions;
+    }
+
+    private void seekAfter(String cursor, List<String> conditions, MapSqlParameterSource params) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(CURSOR_SEPARATOR);
+            params.addValue("cursorCreatedAt", LocalDateTime.parse(decoded.substring(0, separator)));
+            params.addValue("cursorId", Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, "올바르지 않은 커서입니다.");
+        }
+        conditions.add("(created_at, id) < (:cursorCreatedAt, :cursorId)");
+    }
+
+    private static String where(List<String> conditions) {
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static String cursorOf(Summary last) {
+        String raw = last.getCreatedAt() + CURSOR_SEPARATOR + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
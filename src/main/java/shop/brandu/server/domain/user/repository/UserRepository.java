@@ -1,9 +1,18 @@
 package shop.brandu.server.domain.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import shop.brandu.server.domain.user.dto.UserData.Confirmed;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
 import shop.brandu.server.domain.user.entity.User;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,10 +23,110 @@ import java.util.Optional;
  * @since : 4/17/24
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
-
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserQueryRepository {
     Optional<User> findByEmail(String email);
 
-    boolean existsByUsername(String username);
+    boolean existsByEmail(String email);
+
+    boolean existsByUsernameOrEmail(String username, String email);
+
+    @Query("select u.username from User u where u.username in :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 로그인용 인증 정보 조회, {@code idx_users_username_credential} 인덱스만으로 응답한다.
+     *
+     * @param username 사용자 아이디
+     * @return {@link Credential}
+     */
+    @Query("""
+            select new shop.brandu.server.domain.user.dto.UserData$Credential(
+                u.id, u.username, u.email, u.password, u.roleType, u.isEmailVerified, u.isLocked
+            )
+            from User u
+            where u.username = :username
+            """)
+    Optional<Credential> findCredentialByUsername(@Param("username") String username);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
+    /**
+     * 계정 잠금 상태 변경, 이미 같은 상태라면 갱신하지 않는다.
+     *
+     * @param id     사용자 식별자
+     * @param locked 잠금 여부
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.isLocked = :locked where u.id = :id and u.isLocked <> :locked")
+    int updateLocked(@Param("id") Long id, @Param("locked") boolean locked);
+
+    /**
+     * 이메일 인증 처리, 엔티티를 읽지 않고 UPDATE 한 번으로 끝낸다. <br/>
+     * 이미 인증된 사용자는 갱신하지 않는다. 네이티브 쿼리는 2차 캐시를 거치지 않으므로, 캐시 무효화를 위해 갱신된 사용자의 키를 돌려준다.
+     *
+     * @param email 이메일
+     * @return 새로 인증된 사용자의 {@link Confirmed}, 대상이 없으면 빈 값
+     */
+    default Optional<Confirmed> confirmEmail(String email) {
+        return confirmEmailByEmail(email, LocalDateTime.now());
+    }
+
+    @Transactional
+    @Query(value = """
+            UPDATE users SET is_email_verified = true, updated_at = :now
+            WHERE email = :email AND is_email_verified = false
+            RETURNING id, username
+            """, nativeQuery = true)
+    Optional<Confirmed> confirmEmailByEmail(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    /**
+     * OAuth2 사용자 등록, 같은 이메일의 사용자가 이미 있다면 기존 행을 그대로 반환한다. <br/>
+     * DO NOTHING 은 충돌한 행을 RETURNING 으로 돌려주지 않으므로 값을 바꾸지 않는 DO UPDATE 를 사용한다.
+     * 아이디는 시퀀스에서 직접 받으며, pooled-lo 최적화기는 받은 값부터 블록을 쓰므로 Hibernate 가 할당한 범위와 겹치지 않는다.
+     * 동시에 처음 로그인한 요청은 먼저 삽입된 행을 잠근 뒤 같은 행을 받는다.
+     *
+     * @param user {@link User#createOAuthUser} 로 만든 사용자
+     * @return 저장된 사용자
+     */
+    default User upsertOAuthUser(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        return upsertByEmail(
+                user.getUsername(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getNickname(),
+                user.getProfileImage(),
+                user.getProviderType().name(),
+                user.getRoleType().name(),
+                now
+        );
+    }
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (id, username, email, password, nickname, profile_image, provider_type, role_type,
+                               is_email_verified, is_locked, created_at, updated_at)
+            VALUES (nextval('users_seq'), :username, :email, :password, :nickname, :profileImage, :providerType, :roleType,
+                    false, false, :now, :now)
+            ON CONFLICT (email) DO UPDATE SET email = EXCLUDED.email
+            RETURNING *
+            """, nativeQuery = true)
+    User upsertByEmail(
+            @Param("username") String username,
+            @Param("email") String email,
+            @Param("password") String password,
+            @Param("nickname") String nickname,
+            @Param("profileImage") String profileImage,
+            @Param("providerType") String providerType,
+            @Param("roleType") String roleType,
+            @Param("now") LocalDateTime now
+    );
 }
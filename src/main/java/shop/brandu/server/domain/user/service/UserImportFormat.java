@@ -0,0 +1,32 @@
+package shop.brandu.server.domain.user.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+
+/**
+ * 사용자 일괄 등록 본문 형식 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : UserImportFormat
+ * @since : 10/17/26
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserImportFormat {
+    CSV(UserImportFormat.CSV_VALUE),
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE);
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final String mediaType;
+
+    public static UserImportFormat of(MediaType contentType) {
+        for (UserImportFormat format : values()) {
+            if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(contentType)) return format;
+        }
+        throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,89 @@
+package shop.brandu.server.domain.user.service;
+
+import lombok.Getter;
+import shop.brandu.server.domain.user.dto.UserData.ImportError;
+import shop.brandu.server.domain.user.dto.UserData.ImportReport;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 사용자 일괄 등록 한 건의 상태 <br/>
+ * 등록은 요청 스레드 하나가 수행하고, 진행 상황 조회는 다른 스레드에서 읽는다.
+ *
+ * @author : sunsuking
+ * @fileName : UserImportJob
+ * @since : 10/17/26
+ */
+class UserImportJob {
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    private final UserImportFormat format;
+    private final int maxErrors;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLong read = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ImportError> errors = new ArrayList<>();
+    @Getter
+    private volatile Status status = Status.RUNNING;
+    private volatile long finishedNanos;
+
+    UserImportJob(UserImportFormat format, int maxErrors) {
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    void read() {
+        read.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void failed(long line, String username, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) errors.add(ImportError.of(line, username, message));
+        }
+    }
+
+    long readCount() {
+        return read.get();
+    }
+
+    void finish(Status status) {
+        this.finishedNanos = System.nanoTime();
+        this.status = status;
+    }
+
+    ImportReport report() {
+        long elapsedNanos = (status == Status.RUNNING ? System.nanoTime() : finishedNanos) - startedNanos;
+        long processed = imported.get() + failed.get();
+        List<ImportError> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        return new ImportReport(
+                id,
+                format.name().toLowerCase(),
+                status.name().toLowerCase(),
+                read.get(),
+                imported.get(),
+                failed.get(),
+                startedAt,
+                elapsedNanos / 1_000_000,
+                elapsedNanos == 0 ? 0 : processed * 1_000_000_000d / elapsedNanos,
+                snapshot
+        );
+    }
+
+    enum Status {
+        RUNNING, COMPLETED, ABORTED
+    }
+}
@@ -0,0 +1,97 @@
+package shop.brandu.server.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import shop.brandu.server.domain.user.dto.UserData.ImportRow;
+
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * 일괄 등록 본문을 한 줄씩 읽어 {@link ImportRow} 로 변환 <br/>
+ *
+ * <p>
+ *     본문 전체를 메모리에 올리지 않으며, 한 줄의 형식 오류는 그 행의 오류로만 기록하고 다음 줄을 계속 읽는다.
+ *     CSV 는 첫 줄을 헤더로 사용하고, 따옴표로 감싼 값 안의 줄바꿈은 지원하지 않는다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserImportReader
+ * @since : 10/17/26
+ */
+class UserImportReader implements Closeable {
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final BufferedReader reader;
+    private final ObjectReader rowReader;
+    private long lineNumber;
+
+    private UserImportReader(BufferedReader reader, ObjectReader rowReader, long lineNumber) {
+        this.reader = reader;
+        this.rowReader = rowReader;
+        this.lineNumber = lineNumber;
+    }
+
+    static UserImportReader open(InputStream body, Charset charset, UserImportFormat format, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        if (format == UserImportFormat.NDJSON) {
+            return new UserImportReader(reader, objectMapper.readerFor(ImportRow.class), 0);
+        }
+
+        String header = reader.readLine();
+        if (header == null) return new UserImportReader(reader, null, 0);
+        CsvSchema.Builder schema = CsvSchema.builder();
+        for (String column : header.split(",")) {
+            schema.addColumn(column.trim());
+        }
+        return new UserImportReader(reader, CSV_MAPPER.readerFor(ImportRow.class).with(schema.build()), 1);
+    }
+
+    /**
+     * 다음 행 읽기, 빈 줄은 건너뛴다.
+     *
+     * @return 다음 행, 본문이 끝났으면 null
+     */
+    Line next() throws IOException {
+        if (rowReader == null) return null;
+
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) continue;
+            try {
+                return new Line(lineNumber, rowReader.readValue(text), null);
+            } catch (JsonProcessingException e) {
+                return new Line(lineNumber, null, "행 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 읽은 한 행, 형식 오류가 있으면 {@code row} 는 null 이고 {@code error} 에 사유가 담긴다.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static class Line {
+        private final long number;
+        private final ImportRow row;
+        private final String error;
+    }
+}
@@ -0,0 +1,271 @@
+package shop.brandu.server.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.UserImportProperties;
+import shop.brandu.server.domain.user.dto.UserData.ImportReport;
+import shop.brandu.server.domain.user.dto.UserData.ImportRow;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+import shop.brandu.server.domain.user.service.UserImportJob.Status;
+import shop.brandu.server.domain.user.service.UserImportReader.Line;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 일괄 등록 서비스 <br/>
+ *
+ * <p>
+ *     요청 본문을 한 줄씩 읽어 {@code chunkSize} 행마다 다음 순서로 처리한다.
+ *     <ol>
+ *         <li>형식 검증과 청크 안의 중복 검사</li>
+ *         <li>이미 등록된 아이디/이메일 조회 (청크당 두 번의 IN 조회)</li>
+ *         <li>비밀번호 병렬 해싱, 이미 BCrypt 해시라면 그대로 사용</li>
+ *         <li>한 트랜잭션에서 저장, 시퀀스 기반 아이디라 Hibernate 가 JDBC 배치로 INSERT 한다.</li>
+ *     </ol>
+ *     청크마다 커밋하므로 중간에 실패해도 앞선 청크는 남는다. 저장 중 다른 요청과 충돌하면 그 청크만 한 행씩 다시 저장해 실패한 행을 골라낸다.
+ *     진행 상황은 {@link #reports()} 와 {@code user.import.rows} 메트릭으로 확인한다.
+ * </p>
+ *
+ * @author : sunsuking
+ * @fileName : UserImportService
+ * @since : 10/17/26
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class UserImportService {
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[abxy]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+    private static final int HISTORY_SIZE = 10;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final UserImportProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 일괄 등록
+     *
+     * @param body    요청 본문
+     * @param charset 본문 문자셋
+     * @param format  {@link UserImportFormat}
+     * @return {@link ImportReport}
+     */
+    public ImportReport importUsers(InputStream body, Charset charset, UserImportFormat format) {
+        UserImportJob job = register(format);
+        ExecutorService hashers = hashers(job);
+        log.info("사용자 일괄 등록 시작 -> id: {}, format: {}", job.getId(), format);
+
+        try (UserImportReader reader = UserImportReader.open(body, charset, format, objectMapper)) {
+            List<PendingUser> chunk = new ArrayList<>(properties.getChunkSize());
+            Line line;
+            while ((line = reader.next()) != null) {
+                job.read();
+                PendingUser pending = validate(line, job);
+                if (pending != null) chunk.add(pending);
+                if (chunk.size() == properties.getChunkSize()) {
+                    write(chunk, hashers, job);
+                    chunk.clear();
+                }
+                if (job.readCount() % properties.getProgressInterval() == 0) logProgress(job);
+            }
+            if (!chunk.isEmpty()) write(chunk, hashers, job);
+            job.finish(Status.COMPLETED);
+        } catch (IOException e) {
+            job.finish(Status.ABORTED);
+            log.warn("사용자 일괄 등록 본문을 끝까지 읽지 못했습니다. id: {}", job.getId(), e);
+            throw new BranduException(ErrorCode.INVALID_INPUT_VALUE, "요청 본문을 읽지 못했습니다. 등록된 행은 유지됩니다. id: " + job.getId());
+        } catch (RuntimeException e) {
+            job.finish(Status.ABORTED);
+            throw e;
+        } finally {
+            hashers.shutdownNow();
+        }
+
+        ImportReport report = job.report();
+        log.info("사용자 일괄 등록 종료 -> id: {}, imported: {}, failed: {}, rows/s: {}",
+                report.getId(), report.getImported(), report.getFailed(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 진행 중이거나 최근에 끝난 일괄 등록 목록, 최근에 시작한 순서
+     *
+     * @return {@link ImportReport} 목록
+     */
+    public List<ImportReport> reports() {
+        return jobs.values().stream()
+                .map(UserImportJob::report)
+                .sorted(Comparator.comparing(ImportReport::getStartedAt).reversed())
+                .toList();
+    }
+
+    private UserImportJob register(UserImportFormat format) {
+        UserImportJob job = new UserImportJob(format, properties.getMaxErrors());
+        jobs.put(job.getId(), job);
+
+        // * 끝난 작업은 최근 HISTORY_SIZE 개만 남긴다.
+        List<ImportReport> finished = reports().stream().filter(report -> !"running".equals(report.getStatus())).toList();
+        finished.stream().skip(HISTORY_SIZE).forEach(report -> jobs.remove(report.getId()));
+        return job;
+    }
+
+    private PendingUser validate(Line line, UserImportJob job) {
+        if (line.getError() != null) {
+            fail(job, line.getNumber(), null, line.getError());
+            return null;
+        }
+
+        ImportRow row = line.getRow();
+        Set<ConstraintViolation<ImportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            fail(job, line.getNumber(), row.getUsername(), violations.iterator().next().getMessage());
+            return null;
+        }
+        return new PendingUser(line.getNumber(), row);
+    }
+
+    private void write(List<PendingUser> chunk, ExecutorService hashers, UserImportJob job) {
+        List<PendingUser> accepted = rejectDuplicates(chunk, job);
+        List<PendingUser> hashed = hash(accepted, hashers, job);
+        if (hashed.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(hashed.stream().map(PendingUser::toUser).toList());
+                userRepository.flush();
+            });
+            job.imported(hashed.size());
+            meterRegistry.counter("user.import.rows", "result", "imported").increment(hashed.size());
+        } catch (DataAccessException e) {
+            // * 조회 이후 다른 요청이 같은 아이디를 등록한 경우, 한 행씩 저장해 충돌한 행만 실패로 남긴다.
+            entityManager.clear();
+            hashed.forEach(pending -> writeOne(pending, job));
+        } finally {
+            // * open-in-view 로 요청 전체가 하나의 영속성 컨텍스트를 공유하므로 청크마다 비운다.
+            entityManager.clear();
+        }
+    }
+
+    private void writeOne(PendingUser pending, UserImportJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(pending.toUser()));
+            job.imported(1);
+            meterRegistry.counter("user.import.rows", "result", "imported").increment();
+        } catch (DataAccessException e) {
+            fail(job, pending, ErrorCode.USER_ALREADY_EXISTS.getMessage());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private List<PendingUser> rejectDuplicates(List<PendingUser> chunk, UserImportJob job) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (PendingUser pending : chunk) {
+            usernames.add(pending.getRow().getUsername());
+            emails.add(pending.getRow().getEmail());
+        }
+        Set<String> existingUsernames = new HashSet<>(userRepository.findExistingUsernames(usernames));
+        Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        // * 청크 안에서 처음 나온 행만 남기고, 이전 청크와의 중복은 이미 저장된 행으로 조회된다.
+        usernames.clear();
+        emails.clear();
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            ImportRow row = pending.getRow();
+            if (existingUsernames.contains(row.getUsername()) || existingEmails.contains(row.getEmail())) {
+                fail(job, pending, ErrorCode.USER_ALREADY_EXISTS.getMessage());
+            } else if (!usernames.add(row.getUsername()) || !emails.add(row.getEmail())) {
+                fail(job, pending, "파일 안에서 아이디 또는 이메일이 중복됩니다.");
+            } else {
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    private List<PendingUser> hash(List<PendingUser> pendings, ExecutorService hashers, UserImportJob job) {
+        List<Future<String>> futures = new ArrayList<>(pendings.size());
+        for (PendingUser pending : pendings) {
+            String password = pending.getRow().getPassword();
+            futures.add(hashers.submit(() -> BCRYPT_HASH.matcher(password).matches() ? password : passwordEncoder.encode(password)));
+        }
+
+        List<PendingUser> hashed = new ArrayList<>(pendings.size());
+        for (int i = 0; i < pendings.size(); i++) {
+            PendingUser pending = pendings.get(i);
+            try {
+                pending.encodedPassword = futures.get(i).get();
+                hashed.add(pending);
+            } catch (ExecutionException e) {
+                fail(job, pending, "비밀번호를 해싱하지 못했습니다.");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BranduException(ErrorCode.SERVER_BUSY, "사용자 일괄 등록이 중단되었습니다.");
+            }
+        }
+        return hashed;
+    }
+
+    private void fail(UserImportJob job, PendingUser pending, String message) {
+        fail(job, pending.getLine(), pending.getRow().getUsername(), message);
+    }
+
+    private void fail(UserImportJob job, long line, String username, String message) {
+        job.failed(line, username, message);
+        meterRegistry.counter("user.import.rows", "result", "failed").increment();
+    }
+
+    private void logProgress(UserImportJob job) {
+        ImportReport report = job.report();
+        log.info("사용자 일괄 등록 진행 중 -> id: {}, read: {}, imported: {}, failed: {}, rows/s: {}",
+                report.getId(), report.getRead(), report.getImported(), report.getFailed(), Math.round(report.getRowsPerSecond()));
+    }
+
+    private ExecutorService hashers(UserImportJob job) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(properties.getHashWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "user-import-" + job.getId().substring(0, 8) + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class PendingUser {
+        private final long line;
+        private final ImportRow row;
+        private String encodedPassword;
+
+        private User toUser() {
+            return User.createImportedUser(row, encodedPassword);
+        }
+    }
+}
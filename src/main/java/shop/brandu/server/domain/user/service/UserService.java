@@ -1,9 +1,18 @@
 package shop.brandu.server.domain.user.service;
 
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * @author : sunsuking
  * @fileName : UserService
  * @since : 4/17/24
  */
 public interface UserService {
+    Listing findUsers(Search search);
+
+    void exportUsers(Search search, OutputStream output) throws IOException;
 }
@@ -0,0 +1,66 @@
+package shop.brandu.server.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import shop.brandu.server.core.properties.UserListingProperties;
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 사용자 서비스 구현체 <br/>
+ *
+ * @author : sunsuking
+ * @fileName : UserServiceImpl
+ * @since : 10/17/26
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserServiceImpl implements UserService {
+    private static final int NEW_LINE = '\n';
+
+    private final UserRepository userRepository;
+    private final UserListingProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 목록 조회
+     *
+     * @param search {@link Search}
+     * @return {@link Listing}
+     */
+    @Override
+    public Listing findUsers(Search search) {
+        int size = search.getSize() != null ? search.getSize() : properties.getDefaultSize();
+        return userRepository.findUsers(search, size);
+    }
+
+    /**
+     * 사용자 내보내기, 한 줄에 한 명씩 JSON 으로 쓴다. <br/>
+     * 커서에서 읽은 행을 바로 응답에 쓰므로 전체 목록을 메모리에 모으지 않는다.
+     *
+     * @param search {@link Search}
+     * @param output 응답 본문
+     */
+    @Override
+    public void exportUsers(Search search, OutputStream output) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(output);
+        userRepository.exportUsers(search, summary -> {
+            try {
+                buffered.write(objectMapper.writeValueAsBytes(summary));
+                buffered.write(NEW_LINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        buffered.flush();
+    }
+}
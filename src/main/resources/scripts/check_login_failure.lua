@@ -0,0 +1 @@
+return {redis.call('PTTL', KEYS[2]), redis.call('EXISTS', KEYS[1])}
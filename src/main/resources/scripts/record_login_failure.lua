@@ -0,0 +1,32 @@
+local window = tonumber(ARGV[1])
+local threshold = tonumber(ARGV[2])
+local base_delay = tonumber(ARGV[3])
+local max_delay = tonumber(ARGV[4])
+local time = redis.call('TIME')
+local now = time[1] * 1000 + math.floor(time[2] / 1000)
+local index = math.floor(now / window)
+local state = redis.call('HMGET', KEYS[1], 'window', 'current', 'previous')
+local stored = tonumber(state[1])
+local current = tonumber(state[2]) or 0
+local previous = tonumber(state[3]) or 0
+if stored == nil then
+    current = 0
+    previous = 0
+elseif stored == index - 1 then
+    previous = current
+    current = 0
+elseif stored ~= index then
+    current = 0
+    previous = 0
+end
+current = current + 1
+redis.call('HSET', KEYS[1], 'window', tostring(index), 'current', tostring(current), 'previous', tostring(previous))
+redis.call('PEXPIRE', KEYS[1], window * 2)
+local elapsed = (now - index * window) / window
+local failures = math.floor(previous * (1 - elapsed) + current)
+local delay = 0
+if failures >= threshold then
+    delay = math.floor(math.min(max_delay, base_delay * 2 ^ math.min(failures - threshold, 30)))
+    redis.call('SET', KEYS[2], '1', 'PX', tostring(delay))
+end
+return {failures, delay}
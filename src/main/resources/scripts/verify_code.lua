@@ -0,0 +1,17 @@
+local stored = redis.call('GET', KEYS[1])
+if not stored then
+    return -1
+end
+if stored == ARGV[1] then
+    redis.call('DEL', KEYS[1], KEYS[3])
+    return 1
+end
+local attempts = redis.call('INCR', KEYS[3])
+if attempts == 1 then
+    redis.call('PEXPIRE', KEYS[3], redis.call('PTTL', KEYS[1]))
+end
+if attempts >= tonumber(ARGV[2]) then
+    redis.call('DEL', KEYS[1], KEYS[3])
+    return -2
+end
+return 0
@@ -0,0 +1,44 @@
+package shop.brandu.server.core.advice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.exception.StacklessBranduException;
+import shop.brandu.server.core.response.ErrorResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BranduControllerAdviceTest {
+    private final BranduControllerAdvice advice = new BranduControllerAdvice();
+
+    @Test
+    @DisplayName("재시도_시간이_있으면_Retry_After_헤더_설정")
+    public void 재시도_시간이_있으면_Retry_After_헤더_설정() {
+        // * GIVEN
+        StacklessBranduException exception = new StacklessBranduException(
+                ErrorCode.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS.getMessage(), 3
+        );
+
+        // * WHEN
+        ResponseEntity<ErrorResponse> response = advice.handleBranduException(exception);
+
+        // * THEN
+        assertThat(response.getStatusCode().value()).isEqualTo(429);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("재시도_시간이_없으면_Retry_After_헤더_없음")
+    public void 재시도_시간이_없으면_Retry_After_헤더_없음() {
+        // * WHEN
+        ResponseEntity<ErrorResponse> stackless = advice.handleBranduException(new StacklessBranduException(ErrorCode.INVALID_TOKEN));
+        ResponseEntity<ErrorResponse> general = advice.handleBranduException(new BranduException(ErrorCode.USER_NOT_MATCH));
+
+        // * THEN
+        assertThat(stackless.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+        assertThat(general.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+}
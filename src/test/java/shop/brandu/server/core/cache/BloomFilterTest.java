@@ -0,0 +1,40 @@
+package shop.brandu.server.core.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가된_값은_항상_포함으로_판단")
+    public void 추가된_값은_항상_포함으로_판단() {
+        // * GIVEN
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // * WHEN
+        for (int i = 0; i < 1_000; i++) filter.put("user" + i);
+
+        // * THEN
+        for (int i = 0; i < 1_000; i++) assertThat(filter.mightContain("user" + i)).isTrue();
+    }
+
+    @Test
+    @DisplayName("오탐률이_목표치_근처로_유지")
+    public void 오탐률이_목표치_근처로_유지() {
+        // * GIVEN
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) filter.put("user" + i);
+
+        // * WHEN
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) falsePositives++;
+        }
+
+        // * THEN
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+        assertThat(filter.expectedFpp()).isLessThan(0.02);
+    }
+}
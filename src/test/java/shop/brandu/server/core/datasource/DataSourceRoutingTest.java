@@ -0,0 +1,95 @@
+package shop.brandu.server.core.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.open-in-view=false",
+        "datasource.routing.enabled=true",
+        "datasource.routing.replicas[0].name=replica",
+        "datasource.routing.replicas[0].url=jdbc:tc:postgresql:15:///replica_database",
+        "datasource.routing.replicas[1].name=unreachable",
+        "datasource.routing.replicas[1].url=jdbc:postgresql://localhost:1/unreachable"
+})
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class DataSourceRoutingTest {
+    private static final String PRIMARY = "test_database";
+    private static final String REPLICA = "replica_database";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RecentWriteTracker recentWriteTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("읽기_전용_트랜잭션_복제_노드_분기_테스트")
+    public void 읽기_전용_트랜잭션_복제_노드_분기_테스트() {
+        // * WHEN
+        String readOnly = currentDatabase(true);
+        String readWrite = currentDatabase(false);
+        String withoutTransaction = jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+
+        // * THEN
+        assertThat(readOnly).isEqualTo(REPLICA);
+        assertThat(readWrite).isEqualTo(PRIMARY);
+        assertThat(withoutTransaction).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("최근_변경_사용자_기본_노드_조회_테스트")
+    public void 최근_변경_사용자_기본_노드_조회_테스트() {
+        // * GIVEN
+        recentWriteTracker.markWritten("written@brandu.shop");
+
+        // * WHEN
+        String written = recentWriteTracker.readAfterWrite("written@brandu.shop", () -> currentDatabase(true));
+        String other = recentWriteTracker.readAfterWrite("other@brandu.shop", () -> currentDatabase(true));
+
+        // * THEN
+        assertThat(written).isEqualTo(PRIMARY);
+        assertThat(other).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("연결할_수_없는_복제_노드_제외_테스트")
+    public void 연결할_수_없는_복제_노드_제외_테스트() {
+        // * WHEN
+        Set<String> databases = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            databases.add(currentDatabase(true));
+        }
+
+        // * THEN
+        assertThat(databases).containsExactly(REPLICA);
+        assertThat(meterRegistry.get("datasource.replica.available").tag("replica", "replica").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("datasource.replica.available").tag("replica", "unreachable").gauge().value()).isZero();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
@@ -0,0 +1,91 @@
+package shop.brandu.server.core.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import shop.brandu.server.core.exception.StacklessBranduException;
+import shop.brandu.server.core.properties.RateLimitProperties;
+import shop.brandu.server.core.ratelimit.RateLimiter.Decision;
+import shop.brandu.server.core.ratelimit.RateLimiter.Policy;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RateLimiterTest {
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RateLimiter rateLimiter = new RateLimiter(redisTemplate, new RateLimitProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("임대받은_토큰은_Redis_호출_없이_소비")
+    public void 임대받은_토큰은_Redis_호출_없이_소비() {
+        // * GIVEN
+        givenScriptResult(5L, 0L);
+
+        // * WHEN
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire(Policy.IP, "10.0.0.1").isAllowed()).isTrue();
+        }
+
+        // * THEN
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("버킷이_비면_재시도_시각까지_로컬에서_거절")
+    public void 버킷이_비면_재시도_시각까지_로컬에서_거절() {
+        // * GIVEN
+        givenScriptResult(0L, 3_000L);
+
+        // * WHEN
+        Decision first = rateLimiter.tryAcquire(Policy.IP, "10.0.0.2");
+        Decision second = rateLimiter.tryAcquire(Policy.IP, "10.0.0.2");
+
+        // * THEN
+        assertThat(first.isAllowed()).isFalse();
+        assertThat(first.getRetryAfterSeconds()).isEqualTo(3);
+        assertThat(second.isAllowed()).isFalse();
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("계정_제한_초과시_재시도_시간을_담은_예외")
+    public void 계정_제한_초과시_재시도_시간을_담은_예외() {
+        // * GIVEN
+        givenScriptResult(0L, 2_500L);
+
+        // * WHEN & THEN
+        assertThatThrownBy(() -> rateLimiter.acquire(Policy.ACCOUNT, "test@gmail.com"))
+                .isInstanceOf(StacklessBranduException.class)
+                .extracting(e -> ((StacklessBranduException) e).getRetryAfterSeconds())
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Redis_장애시_요청_허용")
+    public void Redis_장애시_요청_허용() {
+        // * GIVEN
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // * WHEN
+        Decision decision = rateLimiter.tryAcquire(Policy.ACCOUNT, "test@gmail.com");
+
+        // * THEN
+        assertThat(decision.isAllowed()).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptResult(long granted, long retryAfterMillis) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(granted, retryAfterMillis));
+    }
+}
@@ -0,0 +1,56 @@
+package shop.brandu.server.core.response;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+    private final ErrorResponseWriter writer = new ErrorResponseWriter();
+
+    @Test
+    @DisplayName("기존_Gson_직렬화와_같은_본문을_작성")
+    public void 기존_Gson_직렬화와_같은_본문을_작성() throws Exception {
+        // * GIVEN
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String message = "유효기간이 만료된 토큰입니다.";
+
+        // * WHEN
+        writer.write(response, ErrorCode.INVALID_TOKEN, message);
+
+        // * THEN
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentAsString()).isEqualTo(ErrorResponse.of(new BranduException(ErrorCode.INVALID_TOKEN), message).toJson());
+    }
+
+    @Test
+    @DisplayName("같은_코드와_메시지는_인코딩된_본문을_재사용")
+    public void 같은_코드와_메시지는_인코딩된_본문을_재사용() {
+        // * GIVEN
+        byte[] first = writer.encode(ErrorCode.ACCESS_DENIED, ErrorCode.ACCESS_DENIED.getMessage());
+
+        // * WHEN
+        byte[] second = writer.encode(ErrorCode.ACCESS_DENIED, ErrorCode.ACCESS_DENIED.getMessage());
+
+        // * THEN
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("메시지가_없으면_에러_코드의_기본_메시지를_사용")
+    public void 메시지가_없으면_에러_코드의_기본_메시지를_사용() throws Exception {
+        // * GIVEN
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // * WHEN
+        writer.write(response, ErrorCode.ACCESS_DENIED, null);
+
+        // * THEN
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains(ErrorCode.ACCESS_DENIED.getMessage());
+    }
+}
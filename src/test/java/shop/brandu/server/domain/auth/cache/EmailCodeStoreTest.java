@@ -0,0 +1,136 @@
+package shop.brandu.server.domain.auth.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.domain.auth.cache.EmailCodeStore.Verification;
+import shop.brandu.server.domain.auth.service.EmailService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "auth.email-code.max-attempts=3")
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class EmailCodeStoreTest {
+    private static final String KEY = "emailCodeTest";
+    private static final String CODE = "123456";
+
+    @Autowired
+    private EmailCodeStore emailCodeStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        emailCodeStore.discard(KEY);
+    }
+
+    @Test
+    @DisplayName("틀린_코드는_시도_횟수를_차감_테스트")
+    public void 틀린_코드는_시도_횟수를_차감_테스트() {
+        // * GIVEN
+        emailCodeStore.issue(KEY, CODE);
+
+        // * WHEN
+        Verification verification = emailCodeStore.verify(KEY, "000000");
+
+        // * THEN
+        assertThat(verification).isEqualTo(Verification.MISMATCHED);
+        assertThat(redisTemplate.opsForValue().get(CacheKey.codeAttemptsKey(KEY))).isEqualTo("1");
+        assertThat(redisTemplate.getExpire(CacheKey.codeAttemptsKey(KEY))).isPositive();
+        assertThat(emailCodeStore.verify(KEY, CODE)).isEqualTo(Verification.MATCHED);
+    }
+
+    @Test
+    @DisplayName("시도_횟수를_모두_쓰면_코드_폐기_테스트")
+    public void 시도_횟수를_모두_쓰면_코드_폐기_테스트() {
+        // * GIVEN
+        emailCodeStore.issue(KEY, CODE);
+
+        // * WHEN
+        Verification first = emailCodeStore.verify(KEY, "000000");
+        Verification second = emailCodeStore.verify(KEY, "000000");
+        Verification third = emailCodeStore.verify(KEY, "000000");
+
+        // * THEN
+        // * 폐기된 뒤에는 올바른 코드도 만료로 처리된다.
+        assertThat(first).isEqualTo(Verification.MISMATCHED);
+        assertThat(second).isEqualTo(Verification.MISMATCHED);
+        assertThat(third).isEqualTo(Verification.EXHAUSTED);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(CacheKey.codeAttemptsKey(KEY))).isFalse();
+        assertThat(emailCodeStore.verify(KEY, CODE)).isEqualTo(Verification.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("재발송_대기시간_안에는_재발급_거절_테스트")
+    public void 재발송_대기시간_안에는_재발급_거절_테스트() {
+        // * GIVEN
+        emailCodeStore.issue(KEY, CODE);
+        emailCodeStore.verify(KEY, "000000");
+
+        // * WHEN
+        boolean reissued = emailCodeStore.issue(KEY, "654321");
+
+        // * THEN
+        assertThat(reissued).isFalse();
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo(CODE);
+        assertThat(redisTemplate.getExpire(CacheKey.codeCooldownKey(KEY))).isPositive();
+
+        // * 대기시간이 지나면 새 코드로 교체되고 시도 횟수도 초기화된다.
+        redisTemplate.delete(CacheKey.codeCooldownKey(KEY));
+        assertThat(emailCodeStore.issue(KEY, "654321")).isTrue();
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("654321");
+        assertThat(redisTemplate.hasKey(CacheKey.codeAttemptsKey(KEY))).isFalse();
+    }
+
+    @Test
+    @DisplayName("올바른_코드는_동시에_검증해도_한_번만_일치_테스트")
+    public void 올바른_코드는_동시에_검증해도_한_번만_일치_테스트() throws Exception {
+        // * GIVEN
+        int threads = 8;
+        emailCodeStore.issue(KEY, CODE);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Verification>> futures = new ArrayList<>();
+
+        // * WHEN
+        try {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return emailCodeStore.verify(KEY, CODE);
+                }));
+            }
+            ready.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        List<Verification> verifications = new ArrayList<>();
+        for (Future<Verification> future : futures) verifications.add(future.get());
+
+        // * THEN
+        assertThat(verifications).filteredOn(verification -> verification == Verification.MATCHED).hasSize(1);
+        assertThat(verifications).filteredOn(verification -> verification == Verification.EXPIRED).hasSize(threads - 1);
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+}
@@ -0,0 +1,125 @@
+package shop.brandu.server.domain.auth.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore.Rotation;
+import shop.brandu.server.domain.auth.service.EmailService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class RefreshTokenFamilyStoreTest {
+    private static final String FAMILY_ID = "family-test";
+
+    @Autowired
+    private RefreshTokenFamilyStore refreshTokenFamilyStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        refreshTokenFamilyStore.revoke(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("현재_토큰으로_재발급하면_교체_테스트")
+    public void 현재_토큰으로_재발급하면_교체_테스트() {
+        // * GIVEN
+        refreshTokenFamilyStore.start(FAMILY_ID, "jti-1");
+
+        // * WHEN
+        Rotation rotation = refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-1", "jti-2");
+
+        // * THEN
+        assertThat(rotation).isEqualTo(Rotation.ROTATED);
+        assertThat(redisTemplate.opsForValue().get(CacheKey.refreshFamilyKey(FAMILY_ID))).isEqualTo("jti-2");
+        assertThat(redisTemplate.getExpire(CacheKey.refreshFamilyKey(FAMILY_ID))).isPositive();
+    }
+
+    @Test
+    @DisplayName("교체된_토큰을_다시_쓰면_패밀리_폐기_테스트")
+    public void 교체된_토큰을_다시_쓰면_패밀리_폐기_테스트() {
+        // * GIVEN
+        refreshTokenFamilyStore.start(FAMILY_ID, "jti-1");
+        refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-1", "jti-2");
+
+        // * WHEN
+        Rotation reused = refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-1", "jti-3");
+
+        // * THEN
+        // * 정상 사용자의 최신 토큰도 더 이상 재발급되지 않는다.
+        assertThat(reused).isEqualTo(Rotation.REUSED);
+        assertThat(redisTemplate.hasKey(CacheKey.refreshFamilyKey(FAMILY_ID))).isFalse();
+        assertThat(refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-2", "jti-4")).isEqualTo(Rotation.REVOKED);
+    }
+
+    @Test
+    @DisplayName("폐기된_패밀리는_재발급_거절_테스트")
+    public void 폐기된_패밀리는_재발급_거절_테스트() {
+        // * GIVEN
+        refreshTokenFamilyStore.start(FAMILY_ID, "jti-1");
+        refreshTokenFamilyStore.revoke(FAMILY_ID);
+
+        // * WHEN
+        Rotation rotation = refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-1", "jti-2");
+
+        // * THEN
+        assertThat(rotation).isEqualTo(Rotation.REVOKED);
+        assertThat(redisTemplate.hasKey(CacheKey.refreshFamilyKey(FAMILY_ID))).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은_토큰으로_동시에_재발급하면_하나만_교체_테스트")
+    public void 같은_토큰으로_동시에_재발급하면_하나만_교체_테스트() throws Exception {
+        // * GIVEN
+        int threads = 8;
+        refreshTokenFamilyStore.start(FAMILY_ID, "jti-1");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<Rotation>> futures = new ArrayList<>();
+
+        // * WHEN
+        try {
+            for (int i = 0; i < threads; i++) {
+                String next = "jti-next-" + i;
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return refreshTokenFamilyStore.rotate(FAMILY_ID, "jti-1", next);
+                }));
+            }
+            ready.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        List<Rotation> rotations = new ArrayList<>();
+        for (Future<Rotation> future : futures) rotations.add(future.get());
+
+        // * THEN
+        // * 먼저 교체한 요청 뒤의 요청은 재사용으로 보고 패밀리를 폐기하거나, 이미 폐기된 패밀리를 만난다.
+        assertThat(rotations).filteredOn(rotation -> rotation == Rotation.ROTATED).hasSize(1);
+        assertThat(rotations).filteredOn(rotation -> rotation == Rotation.REUSED).isNotEmpty();
+        assertThat(redisTemplate.hasKey(CacheKey.refreshFamilyKey(FAMILY_ID))).isFalse();
+    }
+}
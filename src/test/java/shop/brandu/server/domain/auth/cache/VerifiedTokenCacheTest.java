@@ -0,0 +1,91 @@
+package shop.brandu.server.domain.auth.cache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.brandu.server.core.properties.TokenCacheProperties;
+import shop.brandu.server.domain.auth.entity.VerifiedToken;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new TokenCacheProperties(), meterRegistry);
+
+    @Test
+    @DisplayName("토큰_만료_시각이_지나면_캐시에서_제외_테스트")
+    public void 토큰_만료_시각이_지나면_캐시에서_제외_테스트() throws Exception {
+        // * GIVEN
+        // * exp 는 초 단위로 저장되므로 다음 초가 끝나는 시각을 만료 시각으로 사용한다.
+        long expiresAt = (System.currentTimeMillis() / 1_000 + 2) * 1_000;
+        VerifiedToken verified = verifiedToken(expiresAt);
+        verifiedTokenCache.put("short-lived", verified);
+        assertThat(verifiedTokenCache.getIfPresent("short-lived")).isSameAs(verified);
+
+        // * WHEN
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 50);
+
+        // * THEN
+        assertThat(verifiedTokenCache.getIfPresent("short-lived")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미_만료되었거나_만료_시각이_없는_토큰은_저장하지_않는_테스트")
+    public void 이미_만료되었거나_만료_시각이_없는_토큰은_저장하지_않는_테스트() {
+        // * WHEN
+        verifiedTokenCache.put("expired", verifiedToken(System.currentTimeMillis() - 1_000));
+        verifiedTokenCache.put("no-expiry", VerifiedToken.of(Jwts.claims().setSubject("user@brandu.shop"), null));
+
+        // * THEN
+        assertThat(verifiedTokenCache.getIfPresent("expired")).isNull();
+        assertThat(verifiedTokenCache.getIfPresent("no-expiry")).isNull();
+        assertThat(meterRegistry.get("cache.size").tag("cache", "verifiedTokens").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("히트와_미스_메트릭_기록_테스트")
+    public void 히트와_미스_메트릭_기록_테스트() {
+        // * GIVEN
+        verifiedTokenCache.put("token", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // * WHEN
+        verifiedTokenCache.getIfPresent("token");
+        verifiedTokenCache.getIfPresent("token");
+        verifiedTokenCache.getIfPresent("unknown");
+
+        // * THEN
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화되면_저장과_조회_모두_생략_테스트")
+    public void 비활성화되면_저장과_조회_모두_생략_테스트() {
+        // * GIVEN
+        TokenCacheProperties properties = new TokenCacheProperties();
+        properties.setEnabled(false);
+        MeterRegistry disabledRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache disabled = new VerifiedTokenCache(properties, disabledRegistry);
+
+        // * WHEN
+        disabled.put("token", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // * THEN
+        assertThat(disabled.getIfPresent("token")).isNull();
+        assertThat(disabledRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isZero();
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", result).functionCounter().count();
+    }
+
+    private static VerifiedToken verifiedToken(long expiresAt) {
+        Claims claims = Jwts.claims().setSubject("user@brandu.shop").setExpiration(new Date(expiresAt));
+        return VerifiedToken.of(claims, null);
+    }
+}
@@ -0,0 +1,123 @@
+package shop.brandu.server.domain.auth.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.domain.auth.cache.EmailCodeStore;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// * 메일 발송 릴레이의 주기적인 조회가 쿼리 수에 섞이지 않도록 기동 시 한 번만 조회하게 한다.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "mail.outbox.poll-interval=PT1H"
+})
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class AuthServiceStatementTest {
+    private static final String USERNAME = "statement@gmail.com";
+    private static final String SEQUENCE_USERNAME = "sequence@gmail.com";
+    private static final String PASSWORD = "Test1234!@";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private EmailCodeStore emailCodeStore;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        emailCodeStore.discard(CacheKey.emailConfirmCodeKey(USERNAME));
+        emailCodeStore.discard(CacheKey.emailConfirmCodeKey(SEQUENCE_USERNAME));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("로그인_쿼리_수_테스트")
+    public void 로그인_쿼리_수_테스트() {
+        // * GIVEN
+        User user = localUser();
+        user.confirmEmail();
+        userRepository.save(user);
+        statistics.clear();
+
+        // * WHEN
+        AuthData.SignIn signIn = new AuthData.SignIn();
+        signIn.setUsername(USERNAME);
+        signIn.setPassword(PASSWORD);
+        JwtToken token = authService.signIn(signIn);
+
+        // * THEN
+        assertThat(token.getAccessToken()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이메일_인증_쿼리_수_테스트")
+    public void 이메일_인증_쿼리_수_테스트() {
+        // * GIVEN
+        userRepository.save(localUser());
+        emailCodeStore.issue(CacheKey.emailConfirmCodeKey(USERNAME), "123456");
+        statistics.clear();
+
+        // * WHEN
+        AuthData.Confirm confirm = new AuthData.Confirm();
+        confirm.setType("sign-up");
+        confirm.setEmail(USERNAME);
+        confirm.setCode("123456");
+        boolean confirmed = authService.confirm(confirm);
+
+        // * THEN
+        assertThat(confirmed).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(userRepository.findByUsername(USERNAME)).get().extracting(User::isEmailVerified).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("회원가입_쿼리_수_테스트")
+    public void 회원가입_쿼리_수_테스트() {
+        // * GIVEN
+        // * 사용자와 메일 발송 대기열의 아이디 블록을 미리 받아 두어 시퀀스 조회가 측정에 섞이지 않게 한다.
+        authService.signUp(AuthData.SignUp.of(SEQUENCE_USERNAME, "test", SEQUENCE_USERNAME, PASSWORD));
+        statistics.clear();
+
+        // * WHEN
+        authService.signUp(AuthData.SignUp.of(USERNAME, "test", USERNAME, PASSWORD));
+
+        // * THEN
+        // * 아이디/이메일 중복 확인 한 번, 사용자 INSERT 한 번, 인증 메일 발송 대기열(mail_outbox) INSERT 한 번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(userRepository.findByUsername(USERNAME)).isPresent();
+    }
+
+    private User localUser() {
+        return User.createLocalUser(AuthData.SignUp.of(USERNAME, "test", USERNAME, passwordHashingService.encode(PASSWORD)));
+    }
+}
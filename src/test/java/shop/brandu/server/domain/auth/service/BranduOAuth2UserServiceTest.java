@@ -0,0 +1,138 @@
+package shop.brandu.server.domain.auth.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import shop.brandu.server.core.config.OAuth2ClientConfig;
+import shop.brandu.server.core.properties.OAuth2HttpClientProperties;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BranduOAuth2UserServiceTest {
+    private static final String USER_INFO = """
+            {"sub":"1234","name":"brandu","email":"oauth@brandu.shop","picture":"https://brandu.shop/profile.png"}
+            """;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer provider;
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @AfterEach
+    public void tearDown() {
+        if (provider != null) provider.stop(0);
+        if (connectionManager != null) connectionManager.close();
+    }
+
+    @Test
+    @DisplayName("제공자_사용자_정보로_사용자_등록_테스트")
+    public void 제공자_사용자_정보로_사용자_등록_테스트() throws Exception {
+        // * GIVEN
+        startProvider(Duration.ZERO);
+        BranduOAuth2UserService service = userService(Duration.ofSeconds(3));
+        when(userRepository.upsertOAuthUser(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // * WHEN
+        OAuth2User first = service.loadUser(userRequest());
+        OAuth2User second = service.loadUser(userRequest());
+
+        // * THEN
+        assertThat(first.getName()).isEqualTo("oauth@brandu.shop");
+        assertThat(second.getName()).isEqualTo("oauth@brandu.shop");
+        verify(userRepository, times(2)).upsertOAuthUser(any(User.class));
+        verify(userRepository, never()).findByEmail(any());
+        // * 두 번의 조회가 풀에 반납된 연결 하나를 재사용한다.
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.oauth2.user-info").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.oauth2.provision").tag("provider", "google").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제공자_응답_지연_타임아웃_테스트")
+    public void 제공자_응답_지연_타임아웃_테스트() throws Exception {
+        // * GIVEN
+        startProvider(Duration.ofSeconds(3));
+        BranduOAuth2UserService service = userService(Duration.ofMillis(300));
+
+        // * WHEN
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> service.loadUser(userRequest())).isInstanceOf(OAuth2AuthenticationException.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // * THEN
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("auth.oauth2.user-info").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        verify(userRepository, never()).upsertOAuthUser(any(User.class));
+    }
+
+    private BranduOAuth2UserService userService(Duration responseTimeout) {
+        OAuth2HttpClientProperties properties = new OAuth2HttpClientProperties();
+        properties.setResponseTimeout(responseTimeout);
+        OAuth2ClientConfig config = new OAuth2ClientConfig(properties);
+        connectionManager = config.oAuth2ConnectionManager(meterRegistry);
+        return new BranduOAuth2UserService(
+                userRepository,
+                config.oAuth2RestTemplate(config.oAuth2HttpClient(connectionManager)),
+                meterRegistry
+        );
+    }
+
+    private void startProvider(Duration delay) throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        provider.setExecutor(Executors.newCachedThreadPool());
+        provider.createContext("/userinfo", exchange -> {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = USER_INFO.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        provider.start();
+    }
+
+    private OAuth2UserRequest userRequest() {
+        String baseUrl = "http://localhost:" + provider.getAddress().getPort();
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("client")
+                .clientSecret("secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "token", Instant.now(), Instant.now().plusSeconds(60)
+        );
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+}
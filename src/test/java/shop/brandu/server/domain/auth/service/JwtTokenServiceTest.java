@@ -0,0 +1,131 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.AuthProperties;
+import shop.brandu.server.core.properties.AuthProperties.TokenFormat;
+import shop.brandu.server.core.properties.TokenCacheProperties;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore;
+import shop.brandu.server.domain.auth.cache.RefreshTokenFamilyStore.Rotation;
+import shop.brandu.server.domain.auth.cache.VerifiedTokenCache;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JwtTokenServiceTest {
+    private static final String SECRET_KEY = "nUf2YHEPujjBiFuQj8PhOW3f9LkyC5dkfQJrSyjgHNcVffWvZ1SeI37gIgNt4e7C";
+    private static final String FORGED_SECRET_KEY = "Q2hhbmdlZFNlY3JldEtleUZvckZvcmdlZFRva2Vuc09ubHlVc2VkSW5UZXN0czEyMzQ1Njc4OTA";
+    private static final String USERNAME = "user@brandu.shop";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
+
+    private final RefreshTokenFamilyStore familyStore = mock(RefreshTokenFamilyStore.class);
+
+    @Test
+    @DisplayName("압축_형식_토큰_발급_및_파싱_테스트")
+    public void 압축_형식_토큰_발급_및_파싱_테스트() throws Exception {
+        // * GIVEN
+        JwtTokenService standard = jwtTokenService(TokenFormat.STANDARD);
+        JwtTokenService compact = jwtTokenService(TokenFormat.COMPACT);
+
+        // * WHEN
+        JwtToken standardToken = standard.generateToken(USERNAME, AUTHORITIES);
+        JwtToken compactToken = compact.generateToken(USERNAME, AUTHORITIES);
+        Authentication authentication = compact.parseAuthentication(compactToken.getAccessToken());
+        Claims claims = compact.parseClaims(compactToken.getAccessToken());
+
+        // * THEN
+        assertThat(compactToken.getAccessToken().length()).isLessThan(standardToken.getAccessToken().length());
+        assertThat(compactToken.getRefreshToken().length()).isLessThan(standardToken.getRefreshToken().length());
+        assertThat(authentication.getName()).isEqualTo(USERNAME);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+        assertThat(claims.getIssuedAt()).isNull();
+        assertThat(claims).doesNotContainKey("authorities");
+    }
+
+    @Test
+    @DisplayName("전환_중_두_형식_모두_허용_테스트")
+    public void 전환_중_두_형식_모두_허용_테스트() throws Exception {
+        // * GIVEN
+        JwtTokenService standard = jwtTokenService(TokenFormat.STANDARD);
+        JwtTokenService compact = jwtTokenService(TokenFormat.COMPACT);
+        JwtToken standardToken = standard.generateToken(USERNAME, AUTHORITIES);
+        when(familyStore.rotate(anyString(), anyString(), anyString())).thenReturn(Rotation.ROTATED);
+
+        // * WHEN
+        Authentication authentication = compact.parseAuthentication(standardToken.getAccessToken());
+        JwtToken rotated = compact.generateTokenByRefreshToken(standardToken.getRefreshToken());
+
+        // * THEN
+        assertThat(authentication.getName()).isEqualTo(USERNAME);
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("USER");
+        // * 기존 형식의 리프레시 토큰도 같은 패밀리로 교체되고, 새 토큰은 압축 형식으로 발급된다.
+        String familyId = standard.parseClaims(standardToken.getRefreshToken()).get("fid", String.class);
+        verify(familyStore).rotate(eq(familyId), anyString(), anyString());
+        assertThat(standard.parseAuthentication(rotated.getAccessToken()).getName()).isEqualTo(USERNAME);
+        assertThat(rotated.getAccessToken().length()).isLessThan(standardToken.getAccessToken().length());
+    }
+
+    @Test
+    @DisplayName("서명이_다른_토큰은_캐시하지_않는_테스트")
+    public void 서명이_다른_토큰은_캐시하지_않는_테스트() throws Exception {
+        // * GIVEN
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtTokenService service = jwtTokenService(SECRET_KEY, TokenFormat.COMPACT, new VerifiedTokenCache(new TokenCacheProperties(), meterRegistry));
+        JwtTokenService forger = jwtTokenService(FORGED_SECRET_KEY, TokenFormat.COMPACT, disabledCache());
+        String forged = forger.generateToken(USERNAME, AUTHORITIES).getAccessToken();
+        String valid = service.generateToken(USERNAME, AUTHORITIES).getAccessToken();
+
+        // * WHEN
+        // * 같은 위조 토큰을 반복해도 매번 서명을 검증하고 거절해야 한다.
+        BranduException first = catchThrowableOfType(() -> service.verifyToken(forged), BranduException.class);
+        BranduException second = catchThrowableOfType(() -> service.verifyToken(forged), BranduException.class);
+        service.verifyToken(valid);
+        service.verifyToken(valid);
+
+        // * THEN
+        assertThat(first.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+        assertThat(second.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+        // * 위조 토큰 두 번과 처음 검증한 정상 토큰만 미스이고, 저장된 것은 정상 토큰 하나뿐이다.
+        assertThat(meterRegistry.get("cache.size").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    private JwtTokenService jwtTokenService(TokenFormat tokenFormat) {
+        return jwtTokenService(SECRET_KEY, tokenFormat, disabledCache());
+    }
+
+    private JwtTokenService jwtTokenService(String secretKey, TokenFormat tokenFormat, VerifiedTokenCache verifiedTokenCache) {
+        AuthProperties properties = new AuthProperties();
+        properties.setSecretKey(secretKey);
+        properties.setTokenExpiry(3_000_000);
+        properties.setRefreshTokenExpiry(3_000_000);
+        properties.setTokenFormat(tokenFormat);
+
+        JwtTokenService service = new JwtTokenService(
+                properties, null, verifiedTokenCache, familyStore,
+                new AuthStageMetrics(new SimpleMeterRegistry())
+        );
+        service.init();
+        return service;
+    }
+
+    private static VerifiedTokenCache disabledCache() {
+        TokenCacheProperties cacheProperties = new TokenCacheProperties();
+        cacheProperties.setEnabled(false);
+        return new VerifiedTokenCache(cacheProperties, new SimpleMeterRegistry());
+    }
+}
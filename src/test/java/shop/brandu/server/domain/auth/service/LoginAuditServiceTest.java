@@ -0,0 +1,69 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.domain.auth.dto.AuthData.LoginHistory;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+import shop.brandu.server.domain.auth.repository.LoginEventRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class LoginAuditServiceTest {
+    @Autowired
+    private LoginAuditService loginAuditService;
+
+    @Autowired
+    private LoginEventRepository loginEventRepository;
+
+    @BeforeEach
+    public void init() {
+        loginAuditService.flush();
+        loginEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("로그인_감사_기록_일괄_저장_후_최근_기록_조회_테스트")
+    public void 로그인_감사_기록_일괄_저장_후_최근_기록_조회_테스트() {
+        // * GIVEN
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("User-Agent", "x".repeat(300));
+        loginAuditService.publish(LoginEventType.SIGN_IN, "audit@brandu.shop", false, request);
+        loginAuditService.publish(LoginEventType.SIGN_IN, "audit@brandu.shop", true, request);
+        loginAuditService.publish(LoginEventType.REFRESH, "audit@brandu.shop", true, request);
+        loginAuditService.publish(LoginEventType.SIGN_OUT, "other@brandu.shop", true, request);
+
+        // * WHEN
+        loginAuditService.flush();
+        List<LoginHistory> histories = loginAuditService.recentEvents("audit@brandu.shop", 2);
+
+        // * THEN
+        assertThat(loginEventRepository.count()).isEqualTo(4);
+        assertThat(histories).extracting(LoginHistory::getType).containsExactly(LoginEventType.REFRESH, LoginEventType.SIGN_IN);
+        assertThat(histories.get(1).isSuccess()).isTrue();
+        assertThat(histories.get(0).getIpAddress()).isEqualTo("10.0.0.1");
+        assertThat(histories.get(0).getUserAgent()).hasSize(255);
+    }
+
+    @Test
+    @DisplayName("조회_건수_범위_초과_실패_테스트")
+    public void 조회_건수_범위_초과_실패_테스트() {
+        // * WHEN & THEN
+        assertThatThrownBy(() -> loginAuditService.recentEvents("audit@brandu.shop", 0)).isInstanceOf(BranduException.class);
+        assertThatThrownBy(() -> loginAuditService.recentEvents("audit@brandu.shop", 101)).isInstanceOf(BranduException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import shop.brandu.server.domain.auth.entity.LoginEventType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginEventBufferTest {
+    @Test
+    @DisplayName("버퍼가_가득_찬_경우_추가_실패_테스트")
+    public void 버퍼가_가득_찬_경우_추가_실패_테스트() {
+        // * GIVEN
+        LoginEventBuffer buffer = new LoginEventBuffer(3);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertThat(buffer.offer(LoginEventType.SIGN_IN, true, "user-" + i, null, null, i)).isTrue();
+        }
+
+        // * WHEN
+        boolean overflowed = buffer.offer(LoginEventType.SIGN_IN, true, "overflow", null, null, 0);
+        List<String> drained = new ArrayList<>();
+        int count = buffer.drain(2, slot -> drained.add(slot.getUsername()));
+        boolean reused = buffer.offer(LoginEventType.SIGN_OUT, true, "reused", null, null, 0);
+
+        // * THEN
+        assertThat(buffer.capacity()).isEqualTo(4);
+        assertThat(overflowed).isFalse();
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly("user-0", "user-1");
+        assertThat(reused).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("크기가_1_이하면_두_칸으로_만들어_덮어쓰지_않는_테스트")
+    public void 크기가_1_이하면_두_칸으로_만들어_덮어쓰지_않는_테스트() {
+        // * GIVEN
+        LoginEventBuffer buffer = new LoginEventBuffer(1);
+
+        // * WHEN
+        boolean first = buffer.offer(LoginEventType.SIGN_IN, true, "first", null, null, 0);
+        boolean second = buffer.offer(LoginEventType.SIGN_IN, true, "second", null, null, 0);
+        boolean overflowed = buffer.offer(LoginEventType.SIGN_IN, true, "overflow", null, null, 0);
+        List<String> drained = new ArrayList<>();
+        buffer.drain(10, slot -> drained.add(slot.getUsername()));
+
+        // * THEN
+        assertThat(buffer.capacity()).isEqualTo(2);
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(overflowed).isFalse();
+        assertThat(drained).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("여러_스레드_동시_추가_누락_중복_없음_테스트")
+    public void 여러_스레드_동시_추가_누락_중복_없음_테스트() throws Exception {
+        // * GIVEN
+        int producers = 4;
+        int perProducer = 20_000;
+        LoginEventBuffer buffer = new LoginEventBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // * WHEN
+        List<Future<?>> futures = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            String username = "producer-" + producer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int sequence = 0; sequence < perProducer; sequence++) {
+                    while (!buffer.offer(LoginEventType.SIGN_IN, true, username, null, null, sequence)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        long[] next = new long[producers];
+        boolean[] ordered = {true};
+        int received = 0;
+        while (received < producers * perProducer) {
+            received += buffer.drain(64, slot -> {
+                int producer = Integer.parseInt(slot.getUsername().substring("producer-".length()));
+                if (slot.getOccurredAt() != next[producer]) ordered[0] = false;
+                next[producer] = slot.getOccurredAt() + 1;
+            });
+        }
+        for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // * THEN
+        assertThat(ordered[0]).isTrue();
+        assertThat(next).containsOnly(perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+}
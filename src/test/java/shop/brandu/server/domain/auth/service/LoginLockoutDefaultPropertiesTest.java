@@ -0,0 +1,115 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.LoginLockoutProperties;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class LoginLockoutDefaultPropertiesTest {
+    private static final String USERNAME = "lockout-default@gmail.com";
+    private static final String PASSWORD = "Test1234!@";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LoginFailureTracker loginFailureTracker;
+
+    @Autowired
+    private LoginLockoutProperties properties;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        loginFailureTracker.clear(USERNAME);
+        User user = User.createLocalUser(AuthData.SignUp.of(USERNAME, "test", USERNAME, passwordHashingService.encode(PASSWORD)));
+        user.confirmEmail();
+        userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("기본_설정은_잠그지_않고_지연만_적용_테스트")
+    public void 기본_설정은_잠그지_않고_지연만_적용_테스트() {
+        // * WHEN & THEN
+        // * 잠금은 관리자만 풀 수 있어 아이디만 알면 남의 계정을 잠글 수 있으므로 기본으로 꺼져 있다.
+        assertThat(properties.getLockThreshold()).isZero();
+        assertThat(properties.getThrottleThreshold()).isPositive();
+    }
+
+    @Test
+    @DisplayName("기본_설정으로_계속_실패해도_지연이_끝나면_로그인_테스트")
+    public void 기본_설정으로_계속_실패해도_지연이_끝나면_로그인_테스트() {
+        // * GIVEN
+        int attempts = properties.getThrottleThreshold() + 5;
+        Duration longestDelay = Duration.ZERO;
+
+        // * WHEN
+        // * 지연 시간은 실제로 기다리지 않고 기록만 한 뒤, 지연만 지워 다음 시도를 진행한다.
+        for (int i = 0; i < attempts; i++) {
+            BranduException exception = catchThrowableOfType(() -> authService.signIn(signIn("wrong-password")), BranduException.class);
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_MATCH);
+
+            Long delay = redisTemplate.getExpire(CacheKey.loginThrottleKey(USERNAME), TimeUnit.MILLISECONDS);
+            if (delay != null && delay > 0 && Duration.ofMillis(delay).compareTo(longestDelay) > 0) longestDelay = Duration.ofMillis(delay);
+            expireThrottle();
+        }
+
+        // * THEN
+        assertThat(userRepository.findCredentialByUsername(USERNAME)).get().extracting(Credential::isLocked).isEqualTo(false);
+        assertThat(longestDelay).isPositive().isLessThanOrEqualTo(properties.getMaxThrottleDelay());
+        assertThat(authService.signIn(signIn(PASSWORD)).getAccessToken()).isNotBlank();
+    }
+
+    private void expireThrottle() {
+        redisTemplate.delete(CacheKey.loginThrottleKey(USERNAME));
+        loginFailureTracker.onMessage(new DefaultMessage(
+                CacheKey.LOGIN_THROTTLE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                USERNAME.getBytes(StandardCharsets.UTF_8)
+        ), null);
+    }
+
+    private AuthData.SignIn signIn(String password) {
+        AuthData.SignIn signIn = new AuthData.SignIn();
+        signIn.setUsername(USERNAME);
+        signIn.setPassword(password);
+        return signIn;
+    }
+}
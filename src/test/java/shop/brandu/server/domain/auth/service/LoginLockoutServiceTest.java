@@ -0,0 +1,168 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.domain.auth.cache.LoginFailureTracker;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "auth.lockout.throttle-threshold=3",
+        "auth.lockout.throttle-delay=PT1M",
+        "auth.lockout.lock-threshold=5"
+})
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class LoginLockoutServiceTest {
+    private static final String USERNAME = "lockout@gmail.com";
+    private static final String UNKNOWN_USERNAME = "unknown-lockout@gmail.com";
+    private static final String PASSWORD = "Test1234!@";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private LoginLockoutService loginLockoutService;
+
+    @Autowired
+    private LoginFailureTracker loginFailureTracker;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        loginFailureTracker.clear(USERNAME);
+        User user = User.createLocalUser(AuthData.SignUp.of(USERNAME, "test", USERNAME, passwordHashingService.encode(PASSWORD)));
+        user.confirmEmail();
+        userRepository.save(user);
+        clearInvocations(passwordHashingService);
+    }
+
+    @Test
+    @DisplayName("로그인_실패_횟수_초과_시_해싱_없이_지연_테스트")
+    public void 로그인_실패_횟수_초과_시_해싱_없이_지연_테스트() {
+        // * GIVEN
+        long mismatched = passwordMatchCount("failure");
+        long matched = passwordMatchCount("success");
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> authService.signIn(signIn("wrong-password")))
+                    .extracting(e -> ((BranduException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.USER_NOT_MATCH);
+        }
+
+        // * WHEN & THEN
+        assertThatThrownBy(() -> authService.signIn(signIn(PASSWORD)))
+                .extracting(e -> ((BranduException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_SIGN_IN_THROTTLED);
+        verify(passwordHashingService, times(3)).matches(any(), any());
+        // * 틀린 비밀번호는 password.match 단계의 failure 로 기록된다.
+        assertThat(passwordMatchCount("failure")).isEqualTo(mismatched + 3);
+        assertThat(passwordMatchCount("success")).isEqualTo(matched);
+    }
+
+    @Test
+    @DisplayName("없는_아이디도_같은_횟수에서_지연_테스트")
+    public void 없는_아이디도_같은_횟수에서_지연_테스트() {
+        // * GIVEN
+        AuthData.SignIn unknown = signIn("wrong-password");
+        unknown.setUsername(UNKNOWN_USERNAME);
+        loginFailureTracker.clear(UNKNOWN_USERNAME);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> authService.signIn(unknown))
+                    .extracting(e -> ((BranduException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.USER_NOT_MATCH);
+        }
+
+        // * WHEN & THEN
+        assertThatThrownBy(() -> authService.signIn(unknown))
+                .extracting(e -> ((BranduException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_SIGN_IN_THROTTLED);
+    }
+
+    @Test
+    @DisplayName("로그인_성공_시_실패_기록_초기화_테스트")
+    public void 로그인_성공_시_실패_기록_초기화_테스트() {
+        // * GIVEN
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> authService.signIn(signIn("wrong-password"))).isInstanceOf(BranduException.class);
+        }
+        authService.signIn(signIn(PASSWORD));
+
+        // * WHEN
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> authService.signIn(signIn("wrong-password"))).isInstanceOf(BranduException.class);
+        }
+
+        // * THEN
+        assertThat(authService.signIn(signIn(PASSWORD)).getAccessToken()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("잠금_기준_도달_시_계정_잠금_후_관리자_해제_테스트")
+    public void 잠금_기준_도달_시_계정_잠금_후_관리자_해제_테스트() {
+        // * GIVEN
+        Credential credential = userRepository.findCredentialByUsername(USERNAME).orElseThrow();
+        double locked = meterRegistry.counter("auth.lockout.events", "type", "locked").count();
+
+        // * WHEN
+        for (int i = 0; i < 5; i++) {
+            loginLockoutService.recordFailure(credential);
+        }
+        // * 지연만 지워 잠금 확인까지 진행시킨다.
+        loginFailureTracker.clear(USERNAME);
+
+        // * THEN
+        assertThat(userRepository.findCredentialByUsername(USERNAME)).get().extracting(Credential::isLocked).isEqualTo(true);
+        assertThat(meterRegistry.counter("auth.lockout.events", "type", "locked").count()).isEqualTo(locked + 1);
+        assertThatThrownBy(() -> authService.signIn(signIn(PASSWORD)))
+                .extracting(e -> ((BranduException) e).getErrorCode())
+                .isEqualTo(ErrorCode.USER_LOCKED);
+        verify(passwordHashingService, never()).matches(any(), any());
+
+        loginLockoutService.unlock(USERNAME);
+        assertThat(authService.signIn(signIn(PASSWORD)).getAccessToken()).isNotNull();
+    }
+
+    private long passwordMatchCount(String outcome) {
+        return meterRegistry.timer(AuthStageMetrics.METRIC, "operation", "password.match", "outcome", outcome).count();
+    }
+
+    private AuthData.SignIn signIn(String password) {
+        AuthData.SignIn signIn = new AuthData.SignIn();
+        signIn.setUsername(USERNAME);
+        signIn.setPassword(password);
+        return signIn;
+    }
+}
@@ -0,0 +1,138 @@
+package shop.brandu.server.domain.auth.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.domain.auth.entity.MailOutbox;
+import shop.brandu.server.domain.auth.repository.MailOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false"
+})
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class MailOutboxRelayTest {
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private MailOutboxRelay mailOutboxRelay;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @SpyBean
+    private JavaMailSender javaMailSender;
+
+    @BeforeEach
+    public void init() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기열_메일_전송_후_삭제_테스트")
+    public void 대기열_메일_전송_후_삭제_테스트() throws Exception {
+        // * GIVEN
+        queue(5);
+
+        // * WHEN
+        int relayed = mailOutboxRelay.relay();
+
+        // * THEN
+        assertThat(relayed).isEqualTo(5);
+        assertThat(greenMail.waitForIncomingEmail(5_000, 5)).isTrue();
+        assertThat(greenMail.getReceivedMessages()[0].getSubject()).isEqualTo("BrandU 비밀번호 찾기 메일입니다.");
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적_실패_재시도_예약_테스트")
+    public void 일시적_실패_재시도_예약_테스트() {
+        // * GIVEN
+        queue(1);
+        doThrow(new MailSendException("SMTP 연결 실패")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        // * WHEN
+        int relayed = mailOutboxRelay.relay();
+
+        // * THEN
+        assertThat(relayed).isEqualTo(1);
+        MailOutbox mail = mailOutboxRepository.findAll().get(0);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        assertThat(mail.getAvailableAt()).isAfter(LocalDateTime.now());
+        // * 재시도 시각 전에는 가져가지 않는다.
+        assertThat(mailOutboxRelay.relay()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른_노드가_잠근_메일_건너뛰기_테스트")
+    public void 다른_노드가_잠근_메일_건너뛰기_테스트() throws Exception {
+        // * GIVEN
+        queue(5);
+
+        // * WHEN
+        // * 다른 노드가 세 건을 잠근 채로 있는 동안 릴레이를 실행한다.
+        Integer relayedWhileLocked = transactionTemplate.execute(status -> {
+            assertThat(mailOutboxRepository.claim(LocalDateTime.now(), PageRequest.of(0, 3))).hasSize(3);
+            return CompletableFuture.supplyAsync(mailOutboxRelay::relay).join();
+        });
+        int relayedAfterRelease = mailOutboxRelay.relay();
+
+        // * THEN
+        assertThat(relayedWhileLocked).isEqualTo(2);
+        assertThat(relayedAfterRelease).isEqualTo(3);
+        assertThat(greenMail.waitForIncomingEmail(5_000, 5)).isTrue();
+        assertThat(recipients()).hasSize(5);
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    private Set<String> recipients() throws MessagingException {
+        Set<String> recipients = new HashSet<>();
+        for (MimeMessage message : greenMail.getReceivedMessages()) {
+            recipients.add(message.getAllRecipients()[0].toString());
+        }
+        return recipients;
+    }
+
+    private void queue(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                emailService.queueFindPasswordEmail("user" + i + "@brandu.shop", "123456");
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailTemplateRendererTest {
+    private SpringTemplateEngine templateEngine;
+    private MailTemplateRenderer renderer;
+
+    @BeforeEach
+    public void init() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new MailTemplateRenderer(templateEngine, new AuthStageMetrics(new SimpleMeterRegistry()));
+        renderer.precompile();
+    }
+
+    @Test
+    @DisplayName("회원가입_메일_사전_렌더링_결과_일치_테스트")
+    public void 회원가입_메일_사전_렌더링_결과_일치_테스트() {
+        // * GIVEN
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("nickname", "<브랜뉴>");
+        variables.put("confirmURI", "http://localhost:8080/api/v1/auth/confirm?type=sign-up&code=123456&email=test@gmail.com");
+
+        // * WHEN
+        String html = renderer.render(MailTemplateRenderer.SIGN_UP_TEMPLATE, variables, Locale.KOREA);
+
+        // * THEN
+        assertThat(renderer.isCompiled(MailTemplateRenderer.SIGN_UP_TEMPLATE, Locale.KOREA)).isTrue();
+        assertThat(html).isEqualTo(templateEngine.process(MailTemplateRenderer.SIGN_UP_TEMPLATE, new Context(Locale.KOREA, variables)));
+    }
+
+    @Test
+    @DisplayName("비밀번호_찾기_메일_사전_렌더링_결과_일치_테스트")
+    public void 비밀번호_찾기_메일_사전_렌더링_결과_일치_테스트() {
+        // * GIVEN
+        Map<String, Object> variables = Map.of("code", "654321");
+
+        // * WHEN
+        String html = renderer.render(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, variables, Locale.ENGLISH);
+
+        // * THEN
+        assertThat(renderer.isCompiled(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, Locale.ENGLISH)).isTrue();
+        assertThat(html).isEqualTo(templateEngine.process(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, new Context(Locale.ENGLISH, variables)));
+    }
+
+    @Test
+    @DisplayName("지역이_다른_로케일은_사전_렌더링_공유_테스트")
+    public void 지역이_다른_로케일은_사전_렌더링_공유_테스트() {
+        // * GIVEN
+        Map<String, Object> variables = Map.of("code", "654321");
+        long compiled = renderer.compiledCount();
+
+        // * WHEN
+        for (String country : Locale.getISOCountries()) {
+            renderer.render(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, variables, new Locale("en", country));
+        }
+        String html = renderer.render(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, variables, Locale.forLanguageTag("en-US-x-random"));
+
+        // * THEN
+        assertThat(renderer.compiledCount()).isLessThanOrEqualTo(compiled + 1);
+        assertThat(html).isEqualTo(templateEngine.process(MailTemplateRenderer.FIND_PASSWORD_TEMPLATE, new Context(Locale.US, variables)));
+    }
+}
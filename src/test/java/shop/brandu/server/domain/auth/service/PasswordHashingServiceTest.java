@@ -0,0 +1,154 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.core.properties.PasswordHashingProperties;
+import shop.brandu.server.domain.user.cache.UserEntityCache;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingServiceTest {
+    private static final String PASSWORD = "Test1234!@";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEntityCache userEntityCache = mock(UserEntityCache.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private PasswordHashingService service;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (service != null) service.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열이_가득_차면_즉시_SERVER_BUSY_테스트")
+    public void 대기열이_가득_차면_즉시_SERVER_BUSY_테스트() throws Exception {
+        // * GIVEN
+        // * 작업자 하나가 해싱 중이고 대기열 한 칸도 차 있는 상황
+        service = service(blockingEncoder(), Duration.ofSeconds(5));
+        Future<Boolean> running = callers.submit(() -> service.matches(PASSWORD, "hash"));
+        Future<Boolean> queued = callers.submit(() -> service.matches(PASSWORD, "hash"));
+        waitUntil(() -> queueDepth() == 1);
+
+        // * WHEN
+        long startedAt = System.nanoTime();
+        BranduException exception = catchThrowableOfType(() -> service.matches(PASSWORD, "hash"), BranduException.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // * THEN
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+        assertThat(exception.getErrorCode().getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        // * 대기 중이던 요청은 자리가 나면 정상 처리된다.
+        release.countDown();
+        assertThat(running.get()).isTrue();
+        assertThat(queued.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한_시간_안에_끝나지_않으면_SERVER_BUSY_테스트")
+    public void 제한_시간_안에_끝나지_않으면_SERVER_BUSY_테스트() {
+        // * GIVEN
+        service = service(blockingEncoder(), Duration.ofMillis(200));
+
+        // * WHEN
+        BranduException exception = catchThrowableOfType(() -> service.encode(PASSWORD), BranduException.class);
+
+        // * THEN
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SERVER_BUSY);
+    }
+
+    @Test
+    @DisplayName("비용이_낮은_해시는_로그인_후_다시_해싱_테스트")
+    public void 비용이_낮은_해시는_로그인_후_다시_해싱_테스트() throws Exception {
+        // * GIVEN
+        service = service(new BCryptPasswordEncoder(5), Duration.ofSeconds(5));
+        String encoded = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        // * WHEN
+        service.upgradeIfNeeded(1L, PASSWORD, encoded);
+
+        // * THEN
+        verify(userRepository, timeout(5_000)).updatePassword(eq(1L), argThat(hash -> hash.startsWith("$2a$05$")));
+        verify(userEntityCache, timeout(5_000)).evict(1L);
+        waitUntil(() -> meterRegistry.get("auth.password.rehashed").counter().count() == 1);
+    }
+
+    @Test
+    @DisplayName("비용이_같거나_높은_해시는_그대로_유지_테스트")
+    public void 비용이_같거나_높은_해시는_그대로_유지_테스트() {
+        // * GIVEN
+        service = service(new BCryptPasswordEncoder(5), Duration.ofSeconds(5));
+
+        // * WHEN
+        service.upgradeIfNeeded(1L, PASSWORD, new BCryptPasswordEncoder(5).encode(PASSWORD));
+        service.upgradeIfNeeded(2L, PASSWORD, new BCryptPasswordEncoder(6).encode(PASSWORD));
+
+        // * THEN
+        verify(userRepository, after(300).never()).updatePassword(anyLong(), anyString());
+        verifyNoInteractions(userEntityCache);
+        assertThat(meterRegistry.get("auth.password.rehashed").counter().count()).isZero();
+    }
+
+    private PasswordHashingService service(PasswordEncoder passwordEncoder, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setWorkers(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeout(timeout);
+
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, userRepository, userEntityCache, properties, meterRegistry);
+        service.init();
+        return service;
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode("strength")).thenReturn(new BCryptPasswordEncoder(4).encode("strength"));
+        when(passwordEncoder.encode(PASSWORD)).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await();
+            return true;
+        });
+        return passwordEncoder;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("5초 안에 조건을 만족해야 한다.").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("auth.password.queue.depth").gauge().value();
+    }
+}
@@ -0,0 +1,96 @@
+package shop.brandu.server.domain.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.domain.auth.dto.AuthData.Introspection;
+import shop.brandu.server.domain.auth.dto.AuthData.JwtToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "auth.introspection.api-key=internal-test-key",
+        "auth.introspection.max-batch-size=10",
+        "auth.introspection.parallel-threshold=2"
+})
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class TokenIntrospectionServiceTest {
+    @Autowired
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    @Test
+    @DisplayName("토큰_일괄_검사_테스트")
+    public void 토큰_일괄_검사_테스트() {
+        // * GIVEN
+        JwtToken user = jwtTokenService.generateToken("user@brandu.shop", TokenAuthorities.fromNames("USER"));
+        JwtToken admin = jwtTokenService.generateToken("admin@brandu.shop", TokenAuthorities.fromNames("ADMIN"));
+        JwtToken signedOut = jwtTokenService.generateToken("signed-out@brandu.shop", TokenAuthorities.fromNames("USER"));
+        jwtTokenService.revokeRefreshFamily(signedOut.getRefreshToken());
+
+        // * WHEN
+        List<Introspection> results = tokenIntrospectionService.introspect(List.of(
+                user.getAccessToken(),
+                "invalid-token",
+                signedOut.getAccessToken(),
+                admin.getAccessToken(),
+                user.getAccessToken()
+        ));
+
+        // * THEN
+        assertThat(results).extracting(Introspection::isActive).containsExactly(true, false, false, true, true);
+        assertThat(results.get(0).getUsername()).isEqualTo("user@brandu.shop");
+        assertThat(results.get(0).getAuthorities()).containsExactly("USER");
+        assertThat(results.get(0).getExpiresAt()).isGreaterThan(System.currentTimeMillis() / 1000);
+        assertThat(results.get(1).getReason()).isNotBlank();
+        assertThat(results.get(2).getUsername()).isNull();
+        assertThat(results.get(3).getAuthorities()).containsExactly("ADMIN");
+    }
+
+    @Test
+    @DisplayName("리프레시_토큰은_비활성_테스트")
+    public void 리프레시_토큰은_비활성_테스트() {
+        // * GIVEN
+        JwtToken token = jwtTokenService.generateToken("user@brandu.shop", TokenAuthorities.fromNames("USER"));
+
+        // * WHEN
+        List<Introspection> results = tokenIntrospectionService.introspect(List.of(token.getRefreshToken(), token.getAccessToken()));
+
+        // * THEN
+        assertThat(results).extracting(Introspection::isActive).containsExactly(false, true);
+        assertThat(results.get(0).getUsername()).isNull();
+        assertThat(results.get(0).getReason()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("최대_개수_초과_실패_테스트")
+    public void 최대_개수_초과_실패_테스트() {
+        // * GIVEN
+        List<String> tokens = new ArrayList<>(Collections.nCopies(11, "invalid-token"));
+
+        // * WHEN & THEN
+        assertThatThrownBy(() -> tokenIntrospectionService.introspect(tokens)).isInstanceOf(BranduException.class);
+    }
+
+    @Test
+    @DisplayName("API_키_불일치_실패_테스트")
+    public void API_키_불일치_실패_테스트() {
+        // * WHEN & THEN
+        tokenIntrospectionService.authorize("internal-test-key");
+        assertThatThrownBy(() -> tokenIntrospectionService.authorize("wrong-key")).isInstanceOf(BranduException.class);
+        assertThatThrownBy(() -> tokenIntrospectionService.authorize(null)).isInstanceOf(BranduException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package shop.brandu.server.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisServerCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import shop.brandu.server.core.properties.RevocationProperties;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+    private static final String KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisServerCommands serverCommands = mock(RedisServerCommands.class);
+    private final TokenRevocationService service = new TokenRevocationService(
+            redisTemplate, mock(RedisMessageListenerContainer.class), new RevocationProperties(), new SimpleMeterRegistry()
+    );
+
+    @Test
+    @DisplayName("keyspace_알림_설정이_막히면_항상_Redis_조회_테스트")
+    public void keyspace_알림_설정이_막히면_항상_Redis_조회_테스트() {
+        // * GIVEN
+        // * 관리형 Redis 처럼 CONFIG SET 이 막혀 알림이 꺼진 상태로 남는다.
+        givenRedis("");
+        doThrow(new InvalidDataAccessApiUsageException("ERR unknown command 'CONFIG'"))
+                .when(serverCommands).setConfig(eq(KEYSPACE_EVENTS), anyString());
+
+        // * WHEN
+        service.init();
+        service.resync();
+
+        // * THEN
+        assertThat(service.mightBeRevoked("user@brandu.shop")).isTrue();
+    }
+
+    @Test
+    @DisplayName("keyspace_알림이_켜져_있으면_필터로_판단_테스트")
+    public void keyspace_알림이_켜져_있으면_필터로_판단_테스트() {
+        // * GIVEN
+        givenRedis("Kh");
+
+        // * WHEN
+        service.init();
+        service.resync();
+        service.markRevoked("signed-out@brandu.shop");
+
+        // * THEN
+        assertThat(service.mightBeRevoked("user@brandu.shop")).isFalse();
+        assertThat(service.mightBeRevoked("signed-out@brandu.shop")).isTrue();
+        verify(serverCommands, never()).setConfig(anyString(), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedis(String keyspaceEvents) {
+        Properties config = new Properties();
+        config.setProperty(KEYSPACE_EVENTS, keyspaceEvents);
+        when(connection.serverCommands()).thenReturn(serverCommands);
+        when(serverCommands.getConfig(KEYSPACE_EVENTS)).thenReturn(config);
+        when(redisTemplate.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(mock(Cursor.class));
+    }
+}
@@ -0,0 +1,120 @@
+package shop.brandu.server.domain.user.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.domain.auth.cache.EmailCodeStore;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.auth.service.AuthService;
+import shop.brandu.server.domain.auth.service.EmailService;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class UserEntityCacheTest {
+    private static final String USERNAME = "cache@gmail.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EmailCodeStore emailCodeStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private EmailService emailService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        emailCodeStore.discard(CacheKey.emailConfirmCodeKey(USERNAME));
+        userRepository.save(User.createLocalUser(AuthData.SignUp.of(USERNAME, "test", USERNAME, "password")));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("자연키_조회_캐시_적중_테스트")
+    public void 자연키_조회_캐시_적중_테스트() {
+        // * GIVEN
+        userRepository.findByUsername(USERNAME);
+        statistics.clear();
+
+        // * WHEN
+        User user = userRepository.findByUsername(USERNAME).orElseThrow();
+
+        // * THEN
+        assertThat(user.getUsername()).isEqualTo(USERNAME);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이메일_인증_후_캐시_무효화_테스트")
+    public void 이메일_인증_후_캐시_무효화_테스트() {
+        // * GIVEN
+        assertThat(userRepository.findByUsername(USERNAME)).get().extracting(User::isEmailVerified).isEqualTo(false);
+        emailCodeStore.issue(CacheKey.emailConfirmCodeKey(USERNAME), "123456");
+
+        // * WHEN
+        AuthData.Confirm confirm = new AuthData.Confirm();
+        confirm.setType("sign-up");
+        confirm.setEmail(USERNAME);
+        confirm.setCode("123456");
+        authService.confirm(confirm);
+
+        // * THEN
+        assertThat(userRepository.findByUsername(USERNAME)).get().extracting(User::isEmailVerified).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("다른_노드_무효화_메시지_테스트")
+    public void 다른_노드_무효화_메시지_테스트() throws InterruptedException {
+        // * GIVEN
+        User cached = userRepository.findByUsername(USERNAME).orElseThrow();
+        // * 다른 노드가 이메일 인증을 처리한 상황, 이 노드의 2차 캐시는 아직 이전 값을 갖고 있다.
+        jdbcTemplate.update("UPDATE users SET is_email_verified = true WHERE id = ?", cached.getId());
+        assertThat(userRepository.findByUsername(USERNAME)).get().extracting(User::isEmailVerified).isEqualTo(false);
+
+        // * WHEN
+        redisTemplate.convertAndSend(CacheKey.USER_ENTITY_CHANNEL, cached.getId().toString());
+
+        // * THEN
+        boolean refreshed = false;
+        for (int attempt = 0; attempt < 50 && !refreshed; attempt++) {
+            Thread.sleep(100);
+            refreshed = userRepository.findByUsername(USERNAME).map(User::isEmailVerified).orElse(false);
+        }
+        assertThat(refreshed).isTrue();
+    }
+}
@@ -0,0 +1,86 @@
+package shop.brandu.server.domain.user.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.redis.core.RedisTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.cache.CacheKey;
+import shop.brandu.server.core.datasource.RecentWriteTracker;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.auth.service.EmailService;
+import shop.brandu.server.domain.user.dto.UserData.Snapshot;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class UserSnapshotCacheTest {
+    private static final String USERNAME = "snapshot@gmail.com";
+
+    @Autowired
+    private UserSnapshotCache userSnapshotCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @SpyBean
+    private RecentWriteTracker recentWriteTracker;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        userRepository.save(User.createLocalUser(AuthData.SignUp.of(USERNAME, "test", USERNAME, "password")));
+        userSnapshotCache.evict(USERNAME);
+    }
+
+    @Test
+    @DisplayName("데이터베이스_조회_후_Redis_저장_테스트")
+    public void 데이터베이스_조회_후_Redis_저장_테스트() {
+        // * WHEN
+        Snapshot snapshot = userSnapshotCache.get(USERNAME);
+
+        // * THEN
+        assertThat(snapshot.getUsername()).isEqualTo(USERNAME);
+        assertThat(redisTemplate.opsForHash().get(CacheKey.userSnapshotKey(USERNAME), "username")).isEqualTo(USERNAME);
+        assertThat(redisTemplate.getExpire(CacheKey.userSnapshotKey(USERNAME))).isPositive();
+    }
+
+    @Test
+    @DisplayName("조회_중_무효화되면_이전_정보를_Redis_에_쓰지_않는_테스트")
+    public void 조회_중_무효화되면_이전_정보를_Redis_에_쓰지_않는_테스트() {
+        // * GIVEN
+        // * 데이터베이스에서 읽은 직후 다른 노드가 커밋하고 무효화한 상황
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            redisTemplate.opsForValue().increment(CacheKey.userSnapshotVersionKey(USERNAME));
+            redisTemplate.delete(CacheKey.userSnapshotKey(USERNAME));
+            return result;
+        }).when(recentWriteTracker).readAfterWrite(eq(USERNAME), any());
+
+        // * WHEN
+        Snapshot snapshot = userSnapshotCache.get(USERNAME);
+
+        // * THEN
+        assertThat(snapshot.getUsername()).isEqualTo(USERNAME);
+        assertThat(redisTemplate.hasKey(CacheKey.userSnapshotKey(USERNAME))).isFalse();
+    }
+}
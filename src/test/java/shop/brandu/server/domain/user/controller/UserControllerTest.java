@@ -0,0 +1,76 @@
+package shop.brandu.server.domain.user.controller;
+
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import shop.brandu.server.common.BaseControllerTest;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.auth.service.JwtTokenService;
+import shop.brandu.server.domain.user.dto.UserData.Credential;
+import shop.brandu.server.domain.user.entity.RoleType;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class UserControllerTest extends BaseControllerTest {
+    private static final String EXPORT_PATH = "/api/v1/users/export";
+    private static final int USERS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
+    private String accessToken;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        for (int i = 0; i < USERS; i++) {
+            String username = "export-" + i + "@brandu.shop";
+            userRepository.save(User.createLocalUser(AuthData.SignUp.of(username, "test", username, "password")));
+        }
+        Credential admin = new Credential(0L, "export-0@brandu.shop", "export-0@brandu.shop", "", RoleType.ADMIN, true, false);
+        accessToken = jwtTokenService.generateTokenByLocal(admin).getAccessToken();
+    }
+
+    @Test
+    @DisplayName("사용자_내보내기_정상_테스트")
+    public void 사용자_내보내기_정상_테스트() {
+        // * WHEN
+        // * 비동기로 쓰인 본문은 재디스패치에서 인가가 다시 거절되지 않아야 끝까지 내려온다.
+        Response response = RestAssured.given()
+                .header("Authorization", "Bearer " + accessToken)
+                .queryParam("emailVerified", false)
+                .when().get(EXPORT_PATH);
+
+        // * THEN
+        response.then().statusCode(OK_CODE);
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(response.asString().lines()).hasSize(USERS);
+    }
+
+    @Test
+    @DisplayName("사용자_내보내기_잘못된_조건_테스트")
+    public void 사용자_내보내기_잘못된_조건_테스트() {
+        // * WHEN
+        Response response = RestAssured.given()
+                .header("Authorization", "Bearer " + accessToken)
+                .queryParam("providerType", "UNKNOWN")
+                .when().get(EXPORT_PATH);
+
+        // * THEN
+        response.then()
+                .statusCode(BAD_REQUEST_CODE)
+                .body("code", equalTo(ErrorCode.INVALID_INPUT_VALUE.getCode()))
+                .body("isSuccess", equalTo(false));
+    }
+}
@@ -0,0 +1,114 @@
+package shop.brandu.server.domain.user.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.exception.BranduException;
+import shop.brandu.server.domain.user.dto.UserData.Listing;
+import shop.brandu.server.domain.user.dto.UserData.Search;
+import shop.brandu.server.domain.user.dto.UserData.Summary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class UserQueryRepositoryTest {
+    private static final int USERS = 25;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 17, 12, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        // * 다섯 명씩 같은 생성 시각을 갖도록 넣어 아이디로 순서를 정하는 경우까지 확인한다.
+        for (int i = 0; i < USERS; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, username, email, password, provider_type, role_type,
+                                       is_email_verified, is_locked, created_at, updated_at)
+                    VALUES (nextval('users_seq'), ?, ?, 'password', 'LOCAL', 'USER', ?, false, ?, ?)
+                    """,
+                    "listing-" + i + "@brandu.shop", "listing-" + i + "@brandu.shop", i % 2 == 0,
+                    CREATED_AT.plusMinutes(i / 5), CREATED_AT.plusMinutes(i / 5)
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("키셋_페이지네이션_전체_순회_테스트")
+    public void 키셋_페이지네이션_전체_순회_테스트() {
+        // * GIVEN
+        Search search = new Search();
+        List<Summary> visited = new ArrayList<>();
+
+        // * WHEN
+        Listing listing;
+        do {
+            listing = userRepository.findUsers(search, 7);
+            visited.addAll(listing.getContent());
+            search.setCursor(listing.getNextCursor());
+        } while (listing.getNextCursor() != null);
+
+        // * THEN
+        assertThat(visited).hasSize(USERS);
+        assertThat(visited).extracting(Summary::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < visited.size(); i++) {
+            Summary previous = visited.get(i - 1);
+            Summary current = visited.get(i);
+            assertThat(previous.getCreatedAt()).isAfterOrEqualTo(current.getCreatedAt());
+            if (previous.getCreatedAt().equals(current.getCreatedAt())) {
+                assertThat(previous.getId()).isGreaterThan(current.getId());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("필터_목록_조회와_내보내기_테스트")
+    public void 필터_목록_조회와_내보내기_테스트() {
+        // * GIVEN
+        Search search = new Search();
+        search.setEmailVerified(false);
+
+        // * WHEN
+        Listing listing = userRepository.findUsers(search, USERS);
+        List<Summary> exported = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> userRepository.exportUsers(search, exported::add));
+
+        // * THEN
+        assertThat(listing.getContent()).hasSize(USERS / 2).allMatch(summary -> !summary.isEmailVerified());
+        assertThat(listing.getNextCursor()).isNull();
+        assertThat(exported).extracting(Summary::getId)
+                .containsExactlyElementsOf(listing.getContent().stream().map(Summary::getId).toList());
+    }
+
+    @Test
+    @DisplayName("잘못된_커서_테스트")
+    public void 잘못된_커서_테스트() {
+        // * GIVEN
+        Search search = new Search();
+        search.setCursor("not-a-cursor");
+
+        // * WHEN & THEN
+        assertThatThrownBy(() -> userRepository.findUsers(search, 10)).isInstanceOf(BranduException.class);
+    }
+}
@@ -0,0 +1,158 @@
+package shop.brandu.server.domain.user.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import shop.brandu.server.config.RedisTestContainerConfig;
+import shop.brandu.server.core.exception.ErrorCode;
+import shop.brandu.server.domain.auth.dto.AuthData;
+import shop.brandu.server.domain.auth.service.EmailService;
+import shop.brandu.server.domain.user.dto.UserData.ImportError;
+import shop.brandu.server.domain.user.dto.UserData.ImportReport;
+import shop.brandu.server.domain.user.entity.User;
+import shop.brandu.server.domain.user.repository.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = "user.import.chunk-size=3")
+@Import({RedisTestContainerConfig.class})
+@PropertySource("classpath:application-test.properties")
+class UserImportServiceTest {
+    private static final String HEADER = "username,email,password,nickname\n";
+    private static final String EXISTING = "existing@brandu.shop";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @SpyBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    public void init() {
+        userRepository.deleteAll();
+        userRepository.save(User.createLocalUser(AuthData.SignUp.of(EXISTING, "test", EXISTING, "password")));
+    }
+
+    @Test
+    @DisplayName("형식이_잘못된_행은_제외하고_등록_테스트")
+    public void 형식이_잘못된_행은_제외하고_등록_테스트() {
+        // * GIVEN
+        String csv = HEADER
+                + "valid-1@brandu.shop,valid-1@brandu.shop,Test1234!@,valid\n"
+                + "not-an-email,invalid@brandu.shop,Test1234!@,invalid\n"
+                + "no-password@brandu.shop,no-password@brandu.shop,,invalid\n"
+                + "\"unclosed@brandu.shop,unclosed@brandu.shop,Test1234!@,invalid\n"
+                + "\n"
+                + "valid-2@brandu.shop,valid-2@brandu.shop,Test1234!@,valid\n";
+
+        // * WHEN
+        ImportReport report = importCsv(csv);
+
+        // * THEN
+        // * 빈 줄은 읽은 행에 포함되지 않지만 줄 번호는 원본 기준이다.
+        assertThat(report.getStatus()).isEqualTo("completed");
+        assertThat(report.getRead()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(ImportError::getLine).containsExactly(3L, 4L, 5L);
+        assertThat(report.getErrors()).extracting(ImportError::getMessage)
+                .containsSubsequence("이메일 형식이 아닙니다.", "비밀번호를 입력해주세요.");
+        assertThat(userRepository.findExistingUsernames(List.of("valid-1@brandu.shop", "valid-2@brandu.shop")))
+                .containsExactlyInAnyOrder("valid-1@brandu.shop", "valid-2@brandu.shop");
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미_등록되었거나_파일_안에서_중복된_아이디와_이메일_거절_테스트")
+    public void 이미_등록되었거나_파일_안에서_중복된_아이디와_이메일_거절_테스트() {
+        // * GIVEN
+        // * 청크 크기는 3 이므로 다섯 번째 줄부터는 다음 청크에서 이전 청크의 저장 결과와 비교된다.
+        String csv = HEADER
+                + EXISTING + ",other@brandu.shop,Test1234!@,existing-username\n"
+                + "first@brandu.shop,first@brandu.shop,Test1234!@,first\n"
+                + "first@brandu.shop,second@brandu.shop,Test1234!@,same-chunk-username\n"
+                + "other@brandu.shop," + EXISTING + ",Test1234!@,existing-email\n"
+                + "third@brandu.shop,first@brandu.shop,Test1234!@,next-chunk-email\n"
+                + "fourth@brandu.shop,fourth@brandu.shop,Test1234!@,fourth\n";
+
+        // * WHEN
+        ImportReport report = importCsv(csv);
+
+        // * THEN
+        assertThat(report.getRead()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(ImportError::getLine).containsExactly(2L, 4L, 5L, 6L);
+        assertThat(report.getErrors()).extracting(ImportError::getMessage).containsExactly(
+                ErrorCode.USER_ALREADY_EXISTS.getMessage(),
+                "파일 안에서 아이디 또는 이메일이 중복됩니다.",
+                ErrorCode.USER_ALREADY_EXISTS.getMessage(),
+                ErrorCode.USER_ALREADY_EXISTS.getMessage()
+        );
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("청크_저장이_충돌하면_한_행씩_다시_저장_테스트")
+    public void 청크_저장이_충돌하면_한_행씩_다시_저장_테스트() {
+        // * GIVEN
+        // * 중복 조회 이후 다른 요청이 같은 아이디를 먼저 등록한 상황
+        doReturn(List.of()).when(userRepository).findExistingUsernames(anyCollection());
+        doReturn(List.of()).when(userRepository).findExistingEmails(anyCollection());
+        String csv = HEADER
+                + "before@brandu.shop,before@brandu.shop,Test1234!@,before\n"
+                + EXISTING + "," + EXISTING + ",Test1234!@,conflict\n"
+                + "after@brandu.shop,after@brandu.shop,Test1234!@,after\n";
+
+        // * WHEN
+        ImportReport report = importCsv(csv);
+
+        // * THEN
+        assertThat(report.getRead()).isEqualTo(3);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(3L);
+            assertThat(error.getUsername()).isEqualTo(EXISTING);
+            assertThat(error.getMessage()).isEqualTo(ErrorCode.USER_ALREADY_EXISTS.getMessage());
+        });
+        assertThat(userRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미_해싱된_비밀번호는_그대로_저장_테스트")
+    public void 이미_해싱된_비밀번호는_그대로_저장_테스트() {
+        // * GIVEN
+        String hash = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+        String csv = HEADER + "hashed@brandu.shop,hashed@brandu.shop," + hash + ",hashed\n";
+
+        // * WHEN
+        ImportReport report = importCsv(csv);
+
+        // * THEN
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(userRepository.findCredentialByUsername("hashed@brandu.shop")).get()
+                .satisfies(credential -> assertThat(credential.getPassword()).isEqualTo(hash));
+    }
+
+    private ImportReport importCsv(String csv) {
+        return userImportService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, UserImportFormat.CSV
+        );
+    }
+}